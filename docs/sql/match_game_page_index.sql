@@ -0,0 +1,6 @@
+-- 比赛列表分页索引
+-- 查询：WHERE is_deleted = 0 [AND season = ?] ORDER BY match_time DESC, id DESC LIMIT offset, n
+-- 按赛季筛选时使用 idx_match_game_season_page，不筛选赛季时使用 idx_match_game_page，
+-- 两种情况都按索引顺序读取，不再对整表排序；COUNT 也只扫描索引
+ALTER TABLE match_game ADD INDEX idx_match_game_season_page (is_deleted, season, match_time, id);
+ALTER TABLE match_game ADD INDEX idx_match_game_page (is_deleted, match_time, id);
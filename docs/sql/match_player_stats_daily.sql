@@ -0,0 +1,74 @@
+-- 我方球员按日汇总统计表
+-- 维度：赛季 + 游戏日期 + 是否机器人 + 使用人 + 球员（空值统一存为空字符串）
+-- 游戏日期：游戏日 D 为 D 8:00 至 D+1 2:00（均包含），与统计明细按日期筛选的时间范围一致（GameDay）
+-- 比赛时间为空或在 2:00 之后、8:00 之前的比赛记在 1970-01-01 下，只在不按日期筛选时参与统计
+-- 由比赛的新增/修改/删除在同一事务内增量维护（MatchGameDomainServiceImpl），仅在 match.stats.source=summary 时维护
+-- 上线步骤：执行建表语句 -> 配置 match.stats.source=summary 并重启 -> 低峰期执行下面的回填语句
+CREATE TABLE IF NOT EXISTS match_player_stats_daily (
+    id            BIGINT UNSIGNED NOT NULL AUTO_INCREMENT COMMENT '汇总记录ID',
+    season        VARCHAR(32)     NOT NULL DEFAULT '' COMMENT '赛季',
+    game_date     DATE            NOT NULL COMMENT '游戏日期',
+    is_robot      TINYINT(1)      NOT NULL DEFAULT 0 COMMENT '是否机器人比赛',
+    user_name     VARCHAR(64)     COLLATE utf8mb4_bin NOT NULL DEFAULT '' COMMENT '使用人昵称',
+    player_name   VARCHAR(64)     COLLATE utf8mb4_bin NOT NULL DEFAULT '' COMMENT '使用球员名称',
+    appearances   INT             NOT NULL DEFAULT 0 COMMENT '上场次数',
+    score         INT             NOT NULL DEFAULT 0 COMMENT '得分',
+    rebound       INT             NOT NULL DEFAULT 0 COMMENT '篮板',
+    assist        INT             NOT NULL DEFAULT 0 COMMENT '助攻',
+    steal         INT             NOT NULL DEFAULT 0 COMMENT '抢断',
+    block         INT             NOT NULL DEFAULT 0 COMMENT '盖帽',
+    turnover      INT             NOT NULL DEFAULT 0 COMMENT '失误',
+    fg_attempt    INT             NOT NULL DEFAULT 0 COMMENT '投篮尝试数',
+    fg_made       INT             NOT NULL DEFAULT 0 COMMENT '投篮命中数',
+    three_attempt INT             NOT NULL DEFAULT 0 COMMENT '三分尝试数',
+    three_made    INT             NOT NULL DEFAULT 0 COMMENT '三分命中数',
+    mvp_count     INT             NOT NULL DEFAULT 0 COMMENT 'MVP次数',
+    svp_count     INT             NOT NULL DEFAULT 0 COMMENT 'SVP次数',
+    rating_sum    DECIMAL(14, 4)  NOT NULL DEFAULT 0 COMMENT '评分累计值',
+    create_time   DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '记录创建时间',
+    modified_time DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '记录更新时间',
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_season_date_robot_user_player (season, game_date, is_robot, user_name, player_name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COMMENT = '我方球员按日汇总统计';
+
+-- 首次上线时根据已有明细回填（可重复执行，切换为 summary 并重启之后执行，回填期间的增量会被覆盖为明细的结果）
+DELETE FROM match_player_stats_daily;
+
+INSERT INTO match_player_stats_daily (season, game_date, is_robot, user_name, player_name,
+                                      appearances, score, rebound, assist, steal, block, turnover,
+                                      fg_attempt, fg_made, three_attempt, three_made,
+                                      mvp_count, svp_count, rating_sum)
+SELECT IFNULL(g.season, ''),
+       CASE
+           WHEN g.match_time IS NULL THEN DATE '1970-01-01'
+           WHEN TIME(g.match_time) >= '08:00:00' THEN DATE(g.match_time)
+           WHEN TIME(g.match_time) <= '02:00:00' THEN DATE(g.match_time) - INTERVAL 1 DAY
+           ELSE DATE '1970-01-01'
+           END AS game_date,
+       IFNULL(g.is_robot, 0),
+       IFNULL(TRIM(p.user_name), ''),
+       IFNULL(TRIM(p.player_name), ''),
+       COUNT(*),
+       SUM(IFNULL(p.score, 0)),
+       SUM(IFNULL(p.rebound, 0)),
+       SUM(IFNULL(p.assist, 0)),
+       SUM(IFNULL(p.steal, 0)),
+       SUM(IFNULL(p.block, 0)),
+       SUM(IFNULL(p.turnover, 0)),
+       SUM(IFNULL(p.fg_attempt, 0)),
+       SUM(IFNULL(p.fg_made, 0)),
+       SUM(IFNULL(p.three_attempt, 0)),
+       SUM(IFNULL(p.three_made, 0)),
+       SUM(IF(p.is_mvp = 1, 1, 0)),
+       SUM(IF(p.is_svp = 1, 1, 0)),
+       SUM(IFNULL(p.rating, 0))
+FROM match_player_stats p
+         JOIN match_game g ON g.id = p.match_id
+WHERE p.team_type = 1
+  AND p.is_deleted = 0
+  AND g.is_deleted = 0
+GROUP BY IFNULL(g.season, ''),
+         game_date,
+         IFNULL(g.is_robot, 0),
+         IFNULL(TRIM(p.user_name), ''),
+         IFNULL(TRIM(p.player_name), '');
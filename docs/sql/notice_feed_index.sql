@@ -0,0 +1,4 @@
+-- 公告流键集分页索引
+-- 查询：WHERE is_deleted = 0 AND (create_time, id) < (?, ?) ORDER BY create_time DESC, id DESC LIMIT n
+-- 有了该索引，每页只扫描 n + 1 行，与翻页深度无关
+ALTER TABLE notice ADD INDEX idx_notice_feed (is_deleted, create_time, id);
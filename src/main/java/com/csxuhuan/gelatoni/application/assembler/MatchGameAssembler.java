@@ -6,6 +6,7 @@ import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerStats;
 import com.csxuhuan.gelatoni.domain.query.MatchGameCreateQuery;
 import com.csxuhuan.gelatoni.domain.query.MatchGameUpdateQuery;
 import com.csxuhuan.gelatoni.domain.query.MatchGamePageQuery;
+import com.csxuhuan.gelatoni.domain.result.PageResult;
 import com.csxuhuan.gelatoni.application.dto.MatchGameDTO;
 import com.csxuhuan.gelatoni.application.dto.MatchTeamStatsDTO;
 import com.csxuhuan.gelatoni.application.dto.MatchPlayerStatsDTO;
@@ -13,6 +14,7 @@ import com.csxuhuan.gelatoni.application.dto.MatchGameDetailDTO;
 import com.csxuhuan.gelatoni.interfaces.web.request.MatchGameCreateRequest;
 import com.csxuhuan.gelatoni.interfaces.web.request.MatchGameUpdateRequest;
 import com.csxuhuan.gelatoni.interfaces.web.request.MatchGamePageRequest;
+import com.csxuhuan.gelatoni.interfaces.web.common.PageData;
 import org.springframework.util.CollectionUtils;
 
 
@@ -169,6 +171,21 @@ public class MatchGameAssembler {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 将领域层分页结果转换为前端分页数据响应
+     *
+     * @param pageResult 领域层分页结果
+     * @return 前端分页数据响应
+     */
+    public PageData<MatchGameDTO> toPageData(PageResult<MatchGame> pageResult) {
+        return new PageData<>(
+                toMatchGameDTOList(pageResult.getRecords()),
+                pageResult.getTotal(),
+                pageResult.getPageNo(),
+                pageResult.getPageSize()
+        );
+    }
+
     /**
      * 将领域层队伍统计实体转换为前端展示用 DTO
      *
@@ -1,14 +1,24 @@
 package com.csxuhuan.gelatoni.application.assembler;
 
+import com.csxuhuan.gelatoni.application.exception.BizErrorCode;
+import com.csxuhuan.gelatoni.application.exception.BizException;
 import com.csxuhuan.gelatoni.domain.model.entity.Notice;
 import com.csxuhuan.gelatoni.domain.query.NoticeCreateQuery;
+import com.csxuhuan.gelatoni.domain.query.NoticeFeedQuery;
 import com.csxuhuan.gelatoni.domain.query.NoticePageQuery;
+import com.csxuhuan.gelatoni.domain.result.CursorPageResult;
 import com.csxuhuan.gelatoni.domain.result.PageResult;
 import com.csxuhuan.gelatoni.interfaces.web.common.PageData;
 import com.csxuhuan.gelatoni.application.dto.NoticeDTO;
 import com.csxuhuan.gelatoni.interfaces.web.request.NoticeCreateRequest;
+import com.csxuhuan.gelatoni.interfaces.web.request.NoticeFeedRequest;
 import com.csxuhuan.gelatoni.interfaces.web.request.NoticePageRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -19,6 +29,7 @@ import java.util.stream.Collectors;
  *     <li>Request → Domain Query：将前端请求转换为领域查询对象</li>
  *     <li>Domain Entity → DTO：将领域实体转换为前端展示对象</li>
  *     <li>PageResult → PageData：将领域分页结果转换为前端分页响应</li>
+ *     <li>游标 ↔ (创建时间, ID)：游标对前端不透明，内容为 Base64URL 编码的「创建时间|ID」</li>
  * </ul>
  *
  * <p>设计说明：
@@ -29,6 +40,15 @@ import java.util.stream.Collectors;
  */
 public class NoticeAssembler {
 
+    /** 游标中创建时间与ID的分隔符 */
+    private static final String CURSOR_SEPARATOR = "|";
+
+    /** 公告流默认每页大小 */
+    private static final int DEFAULT_FEED_PAGE_SIZE = 10;
+
+    /** 公告流每页大小上限 */
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+
     /**
      * 将前端分页请求转换为领域查询对象
      *
@@ -42,6 +62,43 @@ public class NoticeAssembler {
         );
     }
 
+    /**
+     * 将前端公告流请求转换为领域查询对象
+     *
+     * @param request 前端公告流请求
+     * @return 领域层公告流查询对象
+     * @throws BizException 游标格式不合法或每页大小超出 1-100 时抛出
+     */
+    public NoticeFeedQuery toDomainQuery(NoticeFeedRequest request) {
+        // 每页大小为空时使用默认值，超出范围时拒绝，避免过大的 LIMIT
+        Integer pageSize = request.getPageSize();
+        if (pageSize == null) {
+            pageSize = DEFAULT_FEED_PAGE_SIZE;
+        } else if (pageSize < 1 || pageSize > MAX_FEED_PAGE_SIZE) {
+            throw new BizException(BizErrorCode.INVALID_PARAM, "每页大小必须在 1 到 " + MAX_FEED_PAGE_SIZE + " 之间");
+        }
+
+        LocalDateTime cursorCreateTime = null;
+        Long cursorId = null;
+        String cursor = request.getCursor();
+        if (cursor != null && !cursor.isEmpty()) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int index = decoded.indexOf(CURSOR_SEPARATOR);
+                cursorCreateTime = LocalDateTime.parse(decoded.substring(0, index));
+                cursorId = Long.parseLong(decoded.substring(index + 1));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new BizException(BizErrorCode.INVALID_PARAM, "游标不合法");
+            }
+        }
+        return new NoticeFeedQuery(
+                cursorCreateTime,
+                cursorId,
+                pageSize,
+                Boolean.TRUE.equals(request.getWithTotal())
+        );
+    }
+
     /**
      * 将前端创建公告请求转换为领域层创建对象
      *
@@ -70,6 +127,32 @@ public class NoticeAssembler {
         );
     }
 
+    /**
+     * 将领域层游标分页结果转换为前端分页数据响应
+     *
+     * <p>pageNo 固定为空；还有下一页时以本页最后一条公告生成 nextCursor，
+     * 最后一条公告没有创建时间时无法生成游标，nextCursor 为空。
+     *
+     * @param result 领域层游标分页结果
+     * @param pageSize 每页大小
+     * @return 前端分页数据响应
+     */
+    public PageData<NoticeDTO> toPageData(CursorPageResult<Notice> result, int pageSize) {
+        List<Notice> notices = result.getRecords();
+        PageData<NoticeDTO> pageData = new PageData<>(
+                notices.stream().map(this::toDTO).collect(Collectors.toList()),
+                result.getTotal(),
+                null,
+                pageSize
+        );
+        Notice last = notices.isEmpty() ? null : notices.get(notices.size() - 1);
+        if (result.isHasMore() && last != null && last.getCreateTime() != null) {
+            String raw = last.getCreateTime() + CURSOR_SEPARATOR + last.getId();
+            pageData.setNextCursor(Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(raw.getBytes(StandardCharsets.UTF_8)));
+        }
+        return pageData;
+    }
 
     /**
      * 将领域层实体转换为前端展示用 DTO
@@ -0,0 +1,40 @@
+package com.csxuhuan.gelatoni.application.dto;
+
+/**
+ * 比赛基础数据快照
+ *
+ * <p>基础数据 + 内容摘要（ETag），整体缓存；前端携带相同的 If-None-Match 时可直接返回 304。
+ */
+public class MatchGameBaseDataSnapshot {
+
+    /** 基础数据 */
+    private MatchGameBaseDataDTO data;
+
+    /** 基础数据内容的摘要，带双引号，可直接作为 ETag 响应头 */
+    private String etag;
+
+    // Jackson反序列化需要无参构造函数
+    public MatchGameBaseDataSnapshot() {
+    }
+
+    public MatchGameBaseDataSnapshot(MatchGameBaseDataDTO data, String etag) {
+        this.data = data;
+        this.etag = etag;
+    }
+
+    public MatchGameBaseDataDTO getData() {
+        return data;
+    }
+
+    public void setData(MatchGameBaseDataDTO data) {
+        this.data = data;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+}
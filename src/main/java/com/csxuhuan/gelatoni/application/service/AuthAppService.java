@@ -38,6 +38,28 @@ public interface AuthAppService {
      */
     UserInfoDTO getUserWithRolesAndPermissions(String username);
 
+    /**
+     * 获取鉴权使用的用户快照（用户信息、角色码、权限码）
+     *
+     * <p>按用户ID缓存，未命中时按用户名查询并写入缓存；用户角色、角色权限变更后缓存失效。
+     * 返回的对象被多个请求共享，调用方不能修改。
+     *
+     * @param userId   用户ID（来自 Token）
+     * @param username 用户名（来自 Token）
+     * @return 用户信息结果，用户不存在或与用户ID不一致时 user 为 null
+     */
+    UserInfoDTO getAuthUserInfo(Long userId, String username);
+
+    /**
+     * 获取用户当前的权限版本
+     *
+     * <p>用户角色、角色权限变更后版本变化，用于判断 Token 中嵌入的权限是否已过期。
+     *
+     * @param userId 用户ID
+     * @return 权限版本
+     */
+    String getPermissionVersion(Long userId);
+
     /**
      * 用户登录
      *
@@ -75,6 +97,8 @@ public interface AuthAppService {
      *     <li>使用 Assembler 转换为 DTO 并返回</li>
      * </ol>
      *
+     * <p>结果按角色编码缓存，角色权限变更后缓存失效；返回的对象被多个请求共享，调用方不能修改。
+     *
      * @param roleCode 角色编码
      * @return 用户信息结果，包含用户 DTO（匿名用户时为 null）、角色码列表、权限码列表
      */
@@ -1,12 +1,13 @@
 package com.csxuhuan.gelatoni.application.service;
 
 import com.csxuhuan.gelatoni.application.dto.MatchGameDTO;
-import com.csxuhuan.gelatoni.application.dto.MatchGameBaseDataDTO;
+import com.csxuhuan.gelatoni.application.dto.MatchGameBaseDataSnapshot;
 import com.csxuhuan.gelatoni.application.dto.MatchGameDetailDTO;
 import com.csxuhuan.gelatoni.application.dto.MatchGameStatsDTO;
 import com.csxuhuan.gelatoni.application.dto.MatchGameTrendDTO;
 import com.csxuhuan.gelatoni.application.dto.OpponentStatsDTO;
 import com.csxuhuan.gelatoni.application.exception.BizException;
+import com.csxuhuan.gelatoni.interfaces.web.common.PageData;
 import com.csxuhuan.gelatoni.interfaces.web.request.MatchGameCreateRequest;
 import com.csxuhuan.gelatoni.interfaces.web.request.MatchGameUpdateRequest;
 import com.csxuhuan.gelatoni.interfaces.web.request.MatchGameStatsRequest;
@@ -15,7 +16,6 @@ import com.csxuhuan.gelatoni.domain.query.MatchGameCreateQuery;
 import com.csxuhuan.gelatoni.domain.query.MatchGameUpdateQuery;
 import com.csxuhuan.gelatoni.domain.query.MatchGamePageQuery;
 
-import java.util.List;
 
 /**
  * 比赛应用服务接口
@@ -78,12 +78,12 @@ public interface MatchGameAppService {
     /**
      * 分页查询比赛列表
      *
-     * <p>按比赛时间排序，支持按赛季筛选。
+     * <p>按比赛时间排序，支持按赛季筛选，在数据库层分页并返回总数。
      *
      * @param query 分页查询对象
-     * @return 比赛列表
+     * @return 比赛分页数据
      */
-    List<MatchGameDTO> getMatchGamePage(MatchGamePageQuery query);
+    PageData<MatchGameDTO> getMatchGamePage(MatchGamePageQuery query);
 
     /**
      * 获取比赛详情
@@ -130,9 +130,11 @@ public interface MatchGameAppService {
     /**
      * 获取比赛基础数据
      *
-     * @return 基础数据
+     * <p>优先读取缓存，未命中时一次查询生成并缓存；比赛变更后缓存失效
+     *
+     * @return 基础数据快照（基础数据 + ETag）
      */
-    MatchGameBaseDataDTO getMatchGameBaseData();
+    MatchGameBaseDataSnapshot getMatchGameBaseData();
 
     /**
      * 校验比赛创建请求数据
@@ -3,13 +3,15 @@ package com.csxuhuan.gelatoni.application.service;
 import com.csxuhuan.gelatoni.application.dto.MatchGameStatsDTO;
 import com.csxuhuan.gelatoni.application.dto.MatchGameStatsMetric;
 import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerStats;
+import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerStatsSummary;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
  * 比赛数据统计计算器
@@ -29,14 +31,28 @@ import java.util.stream.Collectors;
  *     <li>支持命中率类指标的精确计算</li>
  * </ul>
  *
+ * <p>数据来源：
+ * <ul>
+ *     <li>明细：数据逐行交给 {@link Accumulator}，读取完成后生成榜单</li>
+ *     <li>汇总：按日汇总表或数据库 GROUP BY 得到的汇总行，交给 {@link #calculateFromSummaries} 合并后生成榜单</li>
+ *     <li>计算器本身不做缓存，榜单结果的缓存由调用方负责</li>
+ * </ul>
+ *
  * <p>设计原则：
  * <ul>
- *     <li>本期采用实时计算模式，不做预计算/缓存/中间表</li>
- *     <li>所有榜单通过一次数据库查询 + 内存聚合计算得出</li>
  *     <li>计算逻辑保持简洁、清晰、易于维护</li>
  *     <li>排序规则明确且一致</li>
  * </ul>
  *
+ * <p>实现方式（列式聚合）：
+ * <ul>
+ *     <li>每个分组（球员/用户）分配一个连续的序号，各项指标存放在以序号为下标的 long[]/double[] 列中</li>
+ *     <li>明细数据只遍历一次，所有指标在这一次遍历中完成累加</li>
+ *     <li>排序只对序号数组（int[]）进行，比较时直接读取原始类型列，不产生装箱对象</li>
+ *     <li>名称的字典序只计算一次（nameRank），后续作为各榜单的最终排序条件复用</li>
+ *     <li>RankItem 只在排序完成后、组装结果时才创建</li>
+ * </ul>
+ *
  * <p>排序规则：
  * <ul>
  *     <li>数值类榜单：按数值降序排列，相同数值按名称升序</li>
@@ -49,112 +65,148 @@ public class MatchGameStatsCalculator {
     }
 
     /**
-     * 核心计算方法：生成比赛统计数据榜单
+     * 创建明细累加器
      *
-     * <p>执行流程：
-     * <ol>
-     *     <li>数据预处理：处理输入数据，建立统计维度映射</li>
-     *     <li>数据聚合：按指定维度对各项指标进行累加统计</li>
-     *     <li>榜单构建：为每个统计指标生成对应的排行榜</li>
-     *     <li>结果封装：将所有榜单组装成最终的DTO返回</li>
-     * </ol>
+     * <p>用于流式读取明细的场景：数据逐行交给累加器，读取完成后再生成榜单，
+     * 不需要先把全部明细装入列表。
      *
-     * @param season 赛季标识（为空表示全赛季统计，仅用于结果回显）
      * @param dimension 统计维度（PLAYER-球员维度，USER-用户维度）
-     * @param myPlayerStats 我方球员统计明细数据列表（要求team_type=1）
-     * @return 完整的比赛统计数据DTO，包含所有指标的排行榜
-     * @throws IllegalArgumentException 当输入参数不符合要求时抛出
+     * @return 明细累加器
+     */
+    public static Accumulator newAccumulator(MatchGameStatsDTO.Dimension dimension) {
+        return new Accumulator(dimension);
+    }
+
+    /**
+     * 明细累加器
+     *
+     * <p>逐行接收我方球员明细并累加到列式数据中，非线程安全，一次计算使用一个实例。
      */
-    public static MatchGameStatsDTO calculate(String season, MatchGameStatsDTO.Dimension dimension,
-                                             List<MatchPlayerStats> myPlayerStats) {
-        List<MatchPlayerStats> source = myPlayerStats == null ? new ArrayList<>() : myPlayerStats;
+    public static final class Accumulator implements Consumer<MatchPlayerStats> {
+
+        private final MatchGameStatsDTO.Dimension dimension;
+        private final StatsColumns columns = new StatsColumns();
 
-        // 数据聚合阶段：按统计维度分组并累加各项指标
-        Map<String, Accumulator> group = new HashMap<>();
-        for (MatchPlayerStats stat : source) {
+        private Accumulator(MatchGameStatsDTO.Dimension dimension) {
+            this.dimension = dimension;
+        }
+
+        /**
+         * 累加一条球员明细
+         *
+         * @param stat 我方球员明细
+         */
+        @Override
+        public void accept(MatchPlayerStats stat) {
             // 根据统计维度确定分组键
             String key = dimension == MatchGameStatsDTO.Dimension.PLAYER
                     ? normalizeKey(stat.getPlayerName())
                     : normalizeKey(stat.getUserName());
+            columns.add(columns.ordinalOf(key), stat);
+        }
 
-            // 获取或创建该分组的累加器
-            Accumulator acc = group.computeIfAbsent(key, k -> new Accumulator());
-            
-            // 基础统计指标累加
-            acc.appearances++; // 参与场次
-            acc.score += safeInt(stat.getScore()); // 得分
-            acc.rebound += safeInt(stat.getRebound()); // 篮板
-            acc.assist += safeInt(stat.getAssist()); // 助攻
-            acc.steal += safeInt(stat.getSteal()); // 抢断
-            acc.block += safeInt(stat.getBlock()); // 盖帽
-            acc.turnover += safeInt(stat.getTurnover()); // 失误
-            acc.ratingSum += stat.getRating() == null ? 0D : stat.getRating(); // 评价
-
-            // 投篮相关统计累加
-            acc.fgAttempt += safeInt(stat.getFgAttempt()); // 投篮出手
-            acc.fgMade += safeInt(stat.getFgMade()); // 投篮命中
-            acc.threeAttempt += safeInt(stat.getThreeAttempt()); // 三分出手
-            acc.threeMade += safeInt(stat.getThreeMade()); // 三分命中
-
-            // MVP/SVP荣誉统计
-            if (Boolean.TRUE.equals(stat.getIsMvp())) {
-                acc.mvp++;
-            }
-            if (Boolean.TRUE.equals(stat.getIsSvp())) {
-                acc.svp++;
-            }
+        /**
+         * 根据已累加的数据生成榜单
+         *
+         * @param season 赛季标识（仅用于结果回显）
+         * @param topN 每个榜单保留的条数，为空或小于1表示返回全部排名
+         * @return 比赛统计数据DTO
+         */
+        public MatchGameStatsDTO toStatsDTO(String season, Integer topN) {
+            int limit = topN == null || topN < 1 ? Integer.MAX_VALUE : topN;
+            return buildStatsDTO(season, dimension, columns, limit);
         }
+    }
+
+    /**
+     * 基于按日汇总数据生成比赛统计数据榜单
+     *
+     * <p>汇总行已按（赛季、日期、是否机器人、使用人、球员）预先累加，
+     * 这里按统计维度把汇总行再次合并后生成榜单，结果与基于明细计算一致。
+     *
+     * @param season 赛季标识（为空表示全赛季统计，仅用于结果回显）
+     * @param dimension 统计维度（PLAYER-球员维度，USER-用户维度）
+     * @param summaries 我方球员按日汇总数据
+     * @param topN 每个榜单保留的条数，为空或小于1表示返回全部排名
+     * @return 比赛统计数据DTO
+     */
+    public static MatchGameStatsDTO calculateFromSummaries(String season, MatchGameStatsDTO.Dimension dimension,
+                                                           List<MatchPlayerStatsSummary> summaries, Integer topN) {
+        List<MatchPlayerStatsSummary> source = summaries == null ? Collections.emptyList() : summaries;
+
+        StatsColumns columns = new StatsColumns();
+        for (MatchPlayerStatsSummary summary : source) {
+            String key = dimension == MatchGameStatsDTO.Dimension.PLAYER
+                    ? normalizeKey(summary.getPlayerName())
+                    : normalizeKey(summary.getUserName());
+            columns.add(columns.ordinalOf(key), summary);
+        }
+
+        int limit = topN == null || topN < 1 ? Integer.MAX_VALUE : topN;
+        return buildStatsDTO(season, dimension, columns, limit);
+    }
 
-        // 榜单构建阶段：为每个统计指标生成对应的排行榜
+    /**
+     * 根据聚合完成的列数据构建所有榜单
+     *
+     * @param season 赛季标识
+     * @param dimension 统计维度
+     * @param columns 聚合完成的列数据
+     * @param limit 每个榜单保留的条数
+     * @return 完整的比赛统计数据DTO
+     */
+    private static MatchGameStatsDTO buildStatsDTO(String season, MatchGameStatsDTO.Dimension dimension,
+                                                   StatsColumns columns, int limit) {
+        int[] nameRank = columns.nameRank();
         List<MatchGameStatsDTO.Leaderboard> leaderboards = new ArrayList<>();
 
         // PLAYER维度特有指标
         if (dimension == MatchGameStatsDTO.Dimension.PLAYER) {
-            leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.APPEARANCES, group, a -> a.appearances));
+            leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.APPEARANCES, columns, nameRank, limit, StatsColumns.APPEARANCES));
         }
 
         // 场均评价榜单
-        leaderboards.add(buildAvgDoubleLeaderboard(MatchGameStatsMetric.RATING_AVG, group, a -> a.ratingSum));
+        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.RATING_AVG, columns, nameRank, limit, columns.ratingSum));
 
         // 基础数据榜单（数值越大排名越前）
-        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.SCORE, group, a -> a.score));
-        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.SCORE_AVG, group, a -> a.score));
-        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.REBOUND, group, a -> a.rebound));
-        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.REBOUND_AVG, group, a -> a.rebound));
-        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.ASSIST, group, a -> a.assist));
-        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.ASSIST_AVG, group, a -> a.assist));
-        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.STEAL, group, a -> a.steal));
-        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.STEAL_AVG, group, a -> a.steal));
-        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.BLOCK, group, a -> a.block));
-        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.BLOCK_AVG, group, a -> a.block));
+        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.SCORE, columns, nameRank, limit, StatsColumns.SCORE));
+        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.SCORE_AVG, columns, nameRank, limit, StatsColumns.SCORE));
+        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.REBOUND, columns, nameRank, limit, StatsColumns.REBOUND));
+        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.REBOUND_AVG, columns, nameRank, limit, StatsColumns.REBOUND));
+        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.ASSIST, columns, nameRank, limit, StatsColumns.ASSIST));
+        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.ASSIST_AVG, columns, nameRank, limit, StatsColumns.ASSIST));
+        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.STEAL, columns, nameRank, limit, StatsColumns.STEAL));
+        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.STEAL_AVG, columns, nameRank, limit, StatsColumns.STEAL));
+        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.BLOCK, columns, nameRank, limit, StatsColumns.BLOCK));
+        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.BLOCK_AVG, columns, nameRank, limit, StatsColumns.BLOCK));
 
         // 投篮数据榜单
-        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.FG_ATTEMPT, group, a -> a.fgAttempt));
-        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.FG_ATTEMPT_AVG, group, a -> a.fgAttempt));
-        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.FG_MADE, group, a -> a.fgMade));
-        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.FG_MADE_AVG, group, a -> a.fgMade));
+        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.FG_ATTEMPT, columns, nameRank, limit, StatsColumns.FG_ATTEMPT));
+        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.FG_ATTEMPT_AVG, columns, nameRank, limit, StatsColumns.FG_ATTEMPT));
+        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.FG_MADE, columns, nameRank, limit, StatsColumns.FG_MADE));
+        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.FG_MADE_AVG, columns, nameRank, limit, StatsColumns.FG_MADE));
         // 投篮命中率榜单（特殊处理：按命中率排序）
-        leaderboards.add(buildRateLeaderboard(MatchGameStatsMetric.FG_PCT, group, a -> a.fgMade, a -> a.fgAttempt));
-        leaderboards.add(buildAvgRateLeaderboard(MatchGameStatsMetric.FG_PCT_AVG, group, a -> a.fgMade, a -> a.fgAttempt));
+        leaderboards.add(buildRateLeaderboard(MatchGameStatsMetric.FG_PCT, columns, nameRank, limit, StatsColumns.FG_MADE, StatsColumns.FG_ATTEMPT, false));
+        leaderboards.add(buildRateLeaderboard(MatchGameStatsMetric.FG_PCT_AVG, columns, nameRank, limit, StatsColumns.FG_MADE, StatsColumns.FG_ATTEMPT, true));
 
         // 三分球数据榜单
-        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.THREE_ATTEMPT, group, a -> a.threeAttempt));
-        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.THREE_ATTEMPT_AVG, group, a -> a.threeAttempt));
-        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.THREE_MADE, group, a -> a.threeMade));
-        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.THREE_MADE_AVG, group, a -> a.threeMade));
+        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.THREE_ATTEMPT, columns, nameRank, limit, StatsColumns.THREE_ATTEMPT));
+        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.THREE_ATTEMPT_AVG, columns, nameRank, limit, StatsColumns.THREE_ATTEMPT));
+        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.THREE_MADE, columns, nameRank, limit, StatsColumns.THREE_MADE));
+        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.THREE_MADE_AVG, columns, nameRank, limit, StatsColumns.THREE_MADE));
         // 三分命中率榜单（特殊处理：按命中率排序）
-        leaderboards.add(buildRateLeaderboard(MatchGameStatsMetric.THREE_PCT, group, a -> a.threeMade, a -> a.threeAttempt));
-        leaderboards.add(buildAvgRateLeaderboard(MatchGameStatsMetric.THREE_PCT_AVG, group, a -> a.threeMade, a -> a.threeAttempt));
+        leaderboards.add(buildRateLeaderboard(MatchGameStatsMetric.THREE_PCT, columns, nameRank, limit, StatsColumns.THREE_MADE, StatsColumns.THREE_ATTEMPT, false));
+        leaderboards.add(buildRateLeaderboard(MatchGameStatsMetric.THREE_PCT_AVG, columns, nameRank, limit, StatsColumns.THREE_MADE, StatsColumns.THREE_ATTEMPT, true));
 
         // 荣誉榜单
-        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.MVP, group, a -> a.mvp));
-        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.MVP_AVG, group, a -> a.mvp));
-        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.SVP, group, a -> a.svp));
-        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.SVP_AVG, group, a -> a.svp));
-        
+        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.MVP, columns, nameRank, limit, StatsColumns.MVP));
+        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.MVP_AVG, columns, nameRank, limit, StatsColumns.MVP));
+        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.SVP, columns, nameRank, limit, StatsColumns.SVP));
+        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.SVP_AVG, columns, nameRank, limit, StatsColumns.SVP));
+
         // 失误榜单（数值越小越好，但按数值降序排列）
-        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.TURNOVER, group, a -> a.turnover));
-        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.TURNOVER_AVG, group, a -> a.turnover));
+        leaderboards.add(buildValueLeaderboard(MatchGameStatsMetric.TURNOVER, columns, nameRank, limit, StatsColumns.TURNOVER));
+        leaderboards.add(buildAvgLeaderboard(MatchGameStatsMetric.TURNOVER_AVG, columns, nameRank, limit, StatsColumns.TURNOVER));
 
         return new MatchGameStatsDTO(season, dimension, leaderboards);
     }
@@ -186,240 +238,401 @@ public class MatchGameStatsCalculator {
     }
 
     /**
-     * 长整型获取器函数式接口
-     * <p>用于从累加器中提取特定指标的数值
+     * 场均值计算：总数值 / 上场次数，保留两位小数
+     * <p>使用 Math.round 进行四舍五入：先乘以100，四舍五入后再除以100
      */
-    private interface LongGetter {
-        /**
-         * 从累加器中获取长整型数值
-         * @param acc 累加器对象
-         * @return 对应指标的数值
-         */
-        long get(Accumulator acc);
-    }
-
-    /**
-     * Double类型获取器函数式接口
-     * <p>用于从累加器中提取Double类型指标的数值
-     */
-    private interface DoubleGetter {
-        /**
-         * 从累加器中获取Double类型数值
-         * @param acc 累加器对象
-         * @return 对应指标的数值
-         */
-        double get(Accumulator acc);
+    private static double avg(double total, long appearances) {
+        return appearances <= 0 ? 0D : Math.round(total / appearances * 100.0) / 100.0;
     }
 
     /**
      * 构建数值型榜单
      * <p>用于处理得分、篮板、助攻等直接数值类统计指标
+     * <p>排序规则：按数值降序，相同数值按名称升序
      *
      * @param metric 统计指标类型
-     * @param group 分组后的统计数据映射
-     * @param getter 数值获取器，用于从累加器中提取对应指标值
+     * @param columns 聚合完成的列数据
+     * @param nameRank 名称字典序
+     * @param limit 榜单保留条数
+     * @param column 指标所在的列
      * @return 构建完成的榜单对象
      */
     private static MatchGameStatsDTO.Leaderboard buildValueLeaderboard(MatchGameStatsMetric metric,
-                                                                       Map<String, Accumulator> group,
-                                                                       LongGetter getter) {
-        List<MatchGameStatsDTO.RankItem> items = group.entrySet().stream()
-                .map(e -> new MatchGameStatsDTO.RankItem(e.getKey(), getter.get(e.getValue())))
-                // 排序规则：按数值降序，相同数值按名称升序
-                .sorted(Comparator.comparing(MatchGameStatsDTO.RankItem::getValue, Comparator.nullsLast(Comparator.naturalOrder())).reversed()
-                        .thenComparing(MatchGameStatsDTO.RankItem::getName))
-                .collect(Collectors.toList());
-
+                                                                       StatsColumns columns,
+                                                                       int[] nameRank,
+                                                                       int limit,
+                                                                       int column) {
+        long[] values = columns.counts[column];
+        int[] order = sortOrdinals(columns.size, limit, (a, b) -> {
+            int cmp = Long.compare(values[b], values[a]);
+            return cmp != 0 ? cmp : Integer.compare(nameRank[a], nameRank[b]);
+        });
+
+        List<MatchGameStatsDTO.RankItem> items = new ArrayList<>(order.length);
+        for (int ordinal : order) {
+            items.add(new MatchGameStatsDTO.RankItem(columns.names[ordinal], values[ordinal]));
+        }
         return new MatchGameStatsDTO.Leaderboard(metric, metric.getDesc() + "榜", items);
     }
 
     /**
-     * 构建场均值型榜单
+     * 构建场均值型榜单（整数列）
      * <p>用于处理场均得分、场均篮板、场均助攻等场均类统计指标
-     * <p>计算逻辑：场均值 = 总数值 / 上场次数，保留一位小数
-     * <p>排序规则：按场均值降序排列，相同场均值按名称升序
-     *
-     * @param metric 统计指标类型（如SCORE_AVG、REBOUND_AVG等）
-     * @param group 分组后的统计数据映射（key为球员/用户名，value为累加器）
-     * @param getter 数值获取器，用于从累加器中提取对应指标的总数值
-     * @return 构建完成的场均榜单对象
      */
     private static MatchGameStatsDTO.Leaderboard buildAvgLeaderboard(MatchGameStatsMetric metric,
-                                                                     Map<String, Accumulator> group,
-                                                                     LongGetter getter) {
-        List<MatchGameStatsDTO.RankItem> items = group.entrySet().stream()
-                .map(e -> {
-                    // 获取该球员/用户的总数值（如总得分、总篮板等）
-                    long total = getter.get(e.getValue());
-                    // 获取上场次数
-                    long appearances = e.getValue().appearances;
-                    // 计算场均值：总数值 / 上场次数，保留两位小数
-                    // 使用 Math.round 进行四舍五入：先乘以100，四舍五入后再除以100
-                    double avg = appearances <= 0 ? 0D : Math.round((double) total / appearances * 100.0) / 100.0;
-                    // 创建榜单条目，只包含名称和场均值
-                    MatchGameStatsDTO.RankItem item = new MatchGameStatsDTO.RankItem(e.getKey(), avg);
-                    return item;
-                })
-                // 排序规则：按场均值降序（数值越大排名越前），相同场均值按名称升序
-                .sorted(Comparator.comparing((MatchGameStatsDTO.RankItem i) -> i.getAvg() != null ? i.getAvg() : 0D, Comparator.naturalOrder()).reversed()
-                        .thenComparing(MatchGameStatsDTO.RankItem::getName))
-                .collect(Collectors.toList());
-
-        return new MatchGameStatsDTO.Leaderboard(metric, metric.getDesc() + "榜", items);
+                                                                     StatsColumns columns,
+                                                                     int[] nameRank,
+                                                                     int limit,
+                                                                     int column) {
+        long[] totals = columns.counts[column];
+        long[] appearances = columns.counts[StatsColumns.APPEARANCES];
+        double[] avgs = new double[columns.size];
+        for (int i = 0; i < columns.size; i++) {
+            avgs[i] = avg((double) totals[i], appearances[i]);
+        }
+        return sortAvgLeaderboard(metric, columns, nameRank, limit, avgs);
     }
 
     /**
-     * 构建Double类型场均值型榜单
+     * 构建场均值型榜单（浮点列）
      * <p>用于处理评价等Double类型的场均统计指标
+     */
+    private static MatchGameStatsDTO.Leaderboard buildAvgLeaderboard(MatchGameStatsMetric metric,
+                                                                     StatsColumns columns,
+                                                                     int[] nameRank,
+                                                                     int limit,
+                                                                     double[] totals) {
+        long[] appearances = columns.counts[StatsColumns.APPEARANCES];
+        double[] avgs = new double[columns.size];
+        for (int i = 0; i < columns.size; i++) {
+            avgs[i] = avg(totals[i], appearances[i]);
+        }
+        return sortAvgLeaderboard(metric, columns, nameRank, limit, avgs);
+    }
+
+    /**
+     * 构建场均值型榜单
+     * <p>计算逻辑：场均值 = 总数值 / 上场次数，保留两位小数
+     * <p>排序规则：按场均值降序排列（数值越大排名越前），相同场均值按名称升序
      *
-     * @param metric 统计指标类型
-     * @param group 分组后的统计数据映射
-     * @param getter Double类型数值获取器
+     * @param metric 统计指标类型（如SCORE_AVG、REBOUND_AVG等）
+     * @param columns 聚合完成的列数据
+     * @param nameRank 名称字典序
+     * @param limit 榜单保留条数
+     * @param avgs 已计算好的场均值列
      * @return 构建完成的场均榜单对象
      */
-    private static MatchGameStatsDTO.Leaderboard buildAvgDoubleLeaderboard(MatchGameStatsMetric metric,
-                                                                           Map<String, Accumulator> group,
-                                                                           DoubleGetter getter) {
-        List<MatchGameStatsDTO.RankItem> items = group.entrySet().stream()
-                .map(e -> {
-                    double total = getter.get(e.getValue());
-                    long appearances = e.getValue().appearances;
-                    double avg = appearances <= 0 ? 0D : Math.round(total / appearances * 100.0) / 100.0;
-                    return new MatchGameStatsDTO.RankItem(e.getKey(), avg);
-                })
-                .sorted(Comparator.comparing((MatchGameStatsDTO.RankItem i) -> i.getAvg() != null ? i.getAvg() : 0D, Comparator.naturalOrder()).reversed()
-                        .thenComparing(MatchGameStatsDTO.RankItem::getName))
-                .collect(Collectors.toList());
-
+    private static MatchGameStatsDTO.Leaderboard sortAvgLeaderboard(MatchGameStatsMetric metric,
+                                                                    StatsColumns columns,
+                                                                    int[] nameRank,
+                                                                    int limit,
+                                                                    double[] avgs) {
+        int[] order = sortOrdinals(columns.size, limit, (a, b) -> {
+            int cmp = Double.compare(avgs[b], avgs[a]);
+            return cmp != 0 ? cmp : Integer.compare(nameRank[a], nameRank[b]);
+        });
+
+        List<MatchGameStatsDTO.RankItem> items = new ArrayList<>(order.length);
+        for (int ordinal : order) {
+            // 创建榜单条目，只包含名称和场均值
+            items.add(new MatchGameStatsDTO.RankItem(columns.names[ordinal], avgs[ordinal]));
+        }
         return new MatchGameStatsDTO.Leaderboard(metric, metric.getDesc() + "榜", items);
     }
 
     /**
-     * 构建场均命中率型榜单
-     * <p>用于处理场均投篮命中率、场均三分命中率等场均比率类统计指标
+     * 构建命中率型榜单
+     * <p>专门用于处理投篮命中率、三分命中率等比率类统计指标
      * <p>计算逻辑：
      * <ul>
-     *     <li>场均命中数 = 总命中数 / 上场次数，保留一位小数</li>
-     *     <li>场均出手数 = 总出手数 / 上场次数，保留一位小数</li>
-     *     <li>整体命中率 = 总命中数 / 总出手数（不是场均命中率）</li>
+     *     <li>总榜单：made/attempt 为总命中数/总出手数</li>
+     *     <li>场均榜单：made/attempt 为场均命中数/场均出手数，保留两位小数</li>
+     *     <li>两种榜单的命中率都是 总命中数 / 总出手数（不是场均命中率）</li>
      * </ul>
-     * <p>排序规则：按整体命中率降序，相同时按场均出手降序，再相同按场均命中降序，最后按名称升序
+     * <p>复杂排序规则：
+     * <ol>
+     *     <li>按命中率降序</li>
+     *     <li>相同命中率时按出手次数降序（体现稳定性）</li>
+     *     <li>相同出手次数时按命中数降序（体现绝对能力）</li>
+     *     <li>最后按名称升序（保证排序一致性）</li>
+     * </ol>
      *
-     * @param metric 统计指标类型（如FG_PCT_AVG、THREE_PCT_AVG等）
-     * @param group 分组后的统计数据映射（key为球员/用户名，value为累加器）
-     * @param madeGetter 命中数获取器，用于从累加器中提取总命中数
-     * @param attemptGetter 出手数获取器，用于从累加器中提取总出手数
-     * @return 构建完成的场均命中率榜单对象
+     * @param metric 统计指标类型
+     * @param columns 聚合完成的列数据
+     * @param nameRank 名称字典序
+     * @param limit 榜单保留条数
+     * @param madeColumn 命中数所在的列
+     * @param attemptColumn 出手数所在的列
+     * @param perGame 是否为场均榜单
+     * @return 构建完成的榜单对象
      */
-    private static MatchGameStatsDTO.Leaderboard buildAvgRateLeaderboard(MatchGameStatsMetric metric,
-                                                                         Map<String, Accumulator> group,
-                                                                         LongGetter madeGetter,
-                                                                         LongGetter attemptGetter) {
-        List<MatchGameStatsDTO.RankItem> items = group.entrySet().stream()
-                .map(e -> {
-                    // 获取总命中数和总出手数
-                    long totalMade = madeGetter.get(e.getValue());
-                    long totalAttempt = attemptGetter.get(e.getValue());
-                    // 获取上场次数
-                    long appearances = e.getValue().appearances;
-                    // 计算场均命中数：总命中数 / 上场次数，保留两位小数
-                    double avgMade = appearances <= 0 ? 0D : Math.round((double) totalMade / appearances * 100.0) / 100.0;
-                    // 计算场均出手数：总出手数 / 上场次数，保留两位小数
-                    double avgAttempt = appearances <= 0 ? 0D : Math.round((double) totalAttempt / appearances * 100.0) / 100.0;
-                    // 计算整体命中率：总命中数 / 总出手数（注意：不是场均命中率）
-                    double rate = totalAttempt <= 0 ? 0D : (double) totalMade / (double) totalAttempt;
-                    // 创建榜单条目，包含场均命中、场均出手和整体命中率
-                    // 注意：made和attempt字段存储的是场均值（Double类型，保留一位小数）
-                    MatchGameStatsDTO.RankItem item = new MatchGameStatsDTO.RankItem(e.getKey(), avgMade, avgAttempt, rate);
-                    return item;
-                })
-                // 复杂排序规则：
-                // 1. 按整体命中率降序（命中率越高排名越前）
-                // 2. 相同命中率时按场均出手次数降序（体现稳定性）
-                // 3. 相同场均出手时按场均命中数降序（体现绝对能力）
-                // 4. 最后按名称升序（保证排序一致性）
-                .sorted(Comparator
-                        .comparing((MatchGameStatsDTO.RankItem i) -> i.getRate() != null ? i.getRate() : 0D, Comparator.naturalOrder())
-                        .reversed()
-                        .thenComparing(i -> i.getAttempt() != null ? i.getAttempt() : 0L, Comparator.reverseOrder())
-                        .thenComparing(i -> i.getMade() != null ? i.getMade() : 0L, Comparator.reverseOrder())
-                        .thenComparing(MatchGameStatsDTO.RankItem::getName))
-                .collect(Collectors.toList());
+    private static MatchGameStatsDTO.Leaderboard buildRateLeaderboard(MatchGameStatsMetric metric,
+                                                                      StatsColumns columns,
+                                                                      int[] nameRank,
+                                                                      int limit,
+                                                                      int madeColumn,
+                                                                      int attemptColumn,
+                                                                      boolean perGame) {
+        long[] totalMade = columns.counts[madeColumn];
+        long[] totalAttempt = columns.counts[attemptColumn];
+        long[] appearances = columns.counts[StatsColumns.APPEARANCES];
+
+        double[] made = new double[columns.size];
+        double[] attempt = new double[columns.size];
+        double[] rate = new double[columns.size];
+        for (int i = 0; i < columns.size; i++) {
+            made[i] = perGame ? avg((double) totalMade[i], appearances[i]) : (double) totalMade[i];
+            attempt[i] = perGame ? avg((double) totalAttempt[i], appearances[i]) : (double) totalAttempt[i];
+            // 命中率计算：避免除零错误
+            rate[i] = totalAttempt[i] <= 0 ? 0D : (double) totalMade[i] / (double) totalAttempt[i];
+        }
+
+        int[] order = sortOrdinals(columns.size, limit, (a, b) -> {
+            int cmp = Double.compare(rate[b], rate[a]);
+            if (cmp != 0) {
+                return cmp;
+            }
+            cmp = Double.compare(attempt[b], attempt[a]);
+            if (cmp != 0) {
+                return cmp;
+            }
+            cmp = Double.compare(made[b], made[a]);
+            return cmp != 0 ? cmp : Integer.compare(nameRank[a], nameRank[b]);
+        });
 
+        List<MatchGameStatsDTO.RankItem> items = new ArrayList<>(order.length);
+        for (int ordinal : order) {
+            items.add(new MatchGameStatsDTO.RankItem(columns.names[ordinal], made[ordinal], attempt[ordinal], rate[ordinal]));
+        }
         return new MatchGameStatsDTO.Leaderboard(metric, metric.getDesc() + "榜", items);
     }
 
     /**
-     * 构建命中率型榜单
-     * <p>专门用于处理投篮命中率、三分命中率等比率类统计指标
-     * <p>排序规则：命中率优先，相同时考虑出手次数和命中数
+     * 序号比较器
+     * <p>直接比较两个分组序号，比较时读取原始类型列，避免装箱
+     */
+    private interface OrdinalComparator {
+        int compare(int a, int b);
+    }
+
+    /**
+     * 对 [0, size) 的序号排序，只返回排名前 limit 的序号
      *
-     * @param metric 统计指标类型
-     * @param group 分组后的统计数据映射
-     * @param madeGetter 命中数获取器
-     * @param attemptGetter 出手数获取器
-     * @return 构建完成的榜单对象
+     * <p>limit 不小于 size 时对全部序号做归并排序；否则先用容量为 limit 的堆
+     * 筛选出前 limit 名，再只对这部分排序。比较器最终按名称排序，排名唯一，
+     * 因此两种方式得到的前 limit 名完全一致。
+     *
+     * @param size 序号数量
+     * @param limit 保留条数
+     * @param comparator 序号比较器
+     * @return 排序后的序号数组
      */
-    private static MatchGameStatsDTO.Leaderboard buildRateLeaderboard(MatchGameStatsMetric metric,
-                                                                      Map<String, Accumulator> group,
-                                                                      LongGetter madeGetter,
-                                                                      LongGetter attemptGetter) {
-        List<MatchGameStatsDTO.RankItem> items = group.entrySet().stream()
-                .map(e -> {
-                    long made = madeGetter.get(e.getValue());
-                    long attempt = attemptGetter.get(e.getValue());
-                    // 命中率计算：避免除零错误
-                    double rate = attempt <= 0 ? 0D : (double) made / (double) attempt;
-                    return new MatchGameStatsDTO.RankItem(e.getKey(), (double) made, (double) attempt, rate);
-                })
-                // 复杂排序规则：
-                // 1. 按命中率降序
-                // 2. 相同命中率时按出手次数降序（体现稳定性）
-                // 3. 相同出手次数时按命中数降序（体现绝对能力）
-                // 4. 最后按名称升序（保证排序一致性）
-                .sorted(Comparator
-                        .comparing((MatchGameStatsDTO.RankItem i) -> i.getRate() != null ? i.getRate() : 0D, Comparator.naturalOrder())
-                        .reversed()
-                        .thenComparing(i -> i.getAttempt() != null ? i.getAttempt() : 0L, Comparator.reverseOrder())
-                        .thenComparing(i -> i.getMade() != null ? i.getMade() : 0L, Comparator.reverseOrder())
-                        .thenComparing(MatchGameStatsDTO.RankItem::getName))
-                .collect(Collectors.toList());
+    private static int[] sortOrdinals(int size, int limit, OrdinalComparator comparator) {
+        int[] order = limit >= size ? allOrdinals(size) : selectTop(size, limit, comparator);
+        if (order.length > 1) {
+            mergeSort(order, new int[order.length], 0, order.length, comparator);
+        }
+        return order;
+    }
 
-        return new MatchGameStatsDTO.Leaderboard(metric, metric.getDesc() + "榜", items);
+    private static int[] allOrdinals(int size) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        return order;
     }
 
     /**
-     * 数据聚合器
-     * <p>用于在数据处理过程中累加各项统计指标
+     * 用容量为 limit 的堆筛选排名前 limit 的序号（结果未排序）
+     *
+     * <p>堆顶始终是当前已选中序号里排名最靠后的一个，新序号排名更靠前时替换堆顶。
+     */
+    private static int[] selectTop(int size, int limit, OrdinalComparator comparator) {
+        int[] heap = new int[limit];
+        for (int i = 0; i < limit; i++) {
+            heap[i] = i;
+        }
+        for (int i = (limit >>> 1) - 1; i >= 0; i--) {
+            siftDown(heap, i, comparator);
+        }
+        for (int ordinal = limit; ordinal < size; ordinal++) {
+            if (comparator.compare(ordinal, heap[0]) < 0) {
+                heap[0] = ordinal;
+                siftDown(heap, 0, comparator);
+            }
+        }
+        return heap;
+    }
+
+    private static void siftDown(int[] heap, int index, OrdinalComparator comparator) {
+        int ordinal = heap[index];
+        int half = heap.length >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < heap.length && comparator.compare(heap[right], heap[child]) > 0) {
+                child = right;
+            }
+            if (comparator.compare(ordinal, heap[child]) >= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = ordinal;
+    }
+
+    private static void mergeSort(int[] a, int[] buffer, int from, int to, OrdinalComparator comparator) {
+        if (to - from <= 1) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(a, buffer, from, mid, comparator);
+        mergeSort(a, buffer, mid, to, comparator);
+        // 两段已有序，直接跳过合并
+        if (comparator.compare(a[mid - 1], a[mid]) <= 0) {
+            return;
+        }
+        System.arraycopy(a, from, buffer, from, to - from);
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (j >= to || (i < mid && comparator.compare(buffer[i], buffer[j]) <= 0)) {
+                a[k] = buffer[i++];
+            } else {
+                a[k] = buffer[j++];
+            }
+        }
+    }
+
+    /**
+     * 列式数据聚合器
+     * <p>每个分组（球员/用户）对应一个连续序号，各项指标按列存放，下标即为序号
      * <p>所有字段初始化为0，通过累加操作逐步构建完整的统计数据
      */
-    private static class Accumulator {
-        /** 参与场次统计 */
-        long appearances;
+    private static final class StatsColumns {
 
+        /** 参与场次统计 */
+        static final int APPEARANCES = 0;
         /** 基础技术统计 */
-        long score;    // 得分
-        long rebound;  // 篮板
-        long assist;   // 助攻
-        long steal;    // 抢断
-        long block;    // 盖帽
-
+        static final int SCORE = 1;
+        static final int REBOUND = 2;
+        static final int ASSIST = 3;
+        static final int STEAL = 4;
+        static final int BLOCK = 5;
+        /** 失误统计 */
+        static final int TURNOVER = 6;
         /** 投篮统计 */
-        long fgAttempt; // 投篮出手次数
-        long fgMade;    // 投篮命中次数
-
+        static final int FG_ATTEMPT = 7;
+        static final int FG_MADE = 8;
         /** 三分球统计 */
-        long threeAttempt; // 三分出手次数
-        long threeMade;    // 三分命中次数
-
+        static final int THREE_ATTEMPT = 9;
+        static final int THREE_MADE = 10;
         /** 荣誉统计 */
-        long mvp;  // MVP次数
-        long svp;  // SVP次数
+        static final int MVP = 11;
+        static final int SVP = 12;
 
-        /** 失误统计 */
-        long turnover; // 失误次数
+        private static final int COLUMN_COUNT = 13;
+        private static final int INITIAL_CAPACITY = 32;
+
+        /** 分组键 → 序号 */
+        private final Map<String, Integer> ordinals = new HashMap<>();
+
+        /** 序号 → 分组键 */
+        private String[] names = new String[INITIAL_CAPACITY];
+
+        /** 整数类指标列：counts[列][序号] */
+        private final long[][] counts = new long[COLUMN_COUNT][INITIAL_CAPACITY];
+
+        /** 评价总分列 */
+        private double[] ratingSum = new double[INITIAL_CAPACITY];
+
+        /** 已分配的序号数量 */
+        private int size;
+
+        /**
+         * 获取分组键对应的序号，不存在时分配新序号
+         */
+        int ordinalOf(String key) {
+            Integer ordinal = ordinals.get(key);
+            if (ordinal != null) {
+                return ordinal;
+            }
+            if (size == names.length) {
+                grow();
+            }
+            names[size] = key;
+            ordinals.put(key, size);
+            return size++;
+        }
 
-        /** 评价统计 */
-        double ratingSum; // 评价总分
+        /**
+         * 将一条球员明细累加到指定序号上
+         */
+        void add(int ordinal, MatchPlayerStats stat) {
+            counts[APPEARANCES][ordinal]++;
+            counts[SCORE][ordinal] += safeInt(stat.getScore());
+            counts[REBOUND][ordinal] += safeInt(stat.getRebound());
+            counts[ASSIST][ordinal] += safeInt(stat.getAssist());
+            counts[STEAL][ordinal] += safeInt(stat.getSteal());
+            counts[BLOCK][ordinal] += safeInt(stat.getBlock());
+            counts[TURNOVER][ordinal] += safeInt(stat.getTurnover());
+            counts[FG_ATTEMPT][ordinal] += safeInt(stat.getFgAttempt());
+            counts[FG_MADE][ordinal] += safeInt(stat.getFgMade());
+            counts[THREE_ATTEMPT][ordinal] += safeInt(stat.getThreeAttempt());
+            counts[THREE_MADE][ordinal] += safeInt(stat.getThreeMade());
+            if (Boolean.TRUE.equals(stat.getIsMvp())) {
+                counts[MVP][ordinal]++;
+            }
+            if (Boolean.TRUE.equals(stat.getIsSvp())) {
+                counts[SVP][ordinal]++;
+            }
+            ratingSum[ordinal] += stat.getRating() == null ? 0D : stat.getRating();
+        }
+
+        /**
+         * 将一条按日汇总数据累加到指定序号上
+         */
+        void add(int ordinal, MatchPlayerStatsSummary summary) {
+            counts[APPEARANCES][ordinal] += safeInt(summary.getAppearances());
+            counts[SCORE][ordinal] += safeInt(summary.getScore());
+            counts[REBOUND][ordinal] += safeInt(summary.getRebound());
+            counts[ASSIST][ordinal] += safeInt(summary.getAssist());
+            counts[STEAL][ordinal] += safeInt(summary.getSteal());
+            counts[BLOCK][ordinal] += safeInt(summary.getBlock());
+            counts[TURNOVER][ordinal] += safeInt(summary.getTurnover());
+            counts[FG_ATTEMPT][ordinal] += safeInt(summary.getFgAttempt());
+            counts[FG_MADE][ordinal] += safeInt(summary.getFgMade());
+            counts[THREE_ATTEMPT][ordinal] += safeInt(summary.getThreeAttempt());
+            counts[THREE_MADE][ordinal] += safeInt(summary.getThreeMade());
+            counts[MVP][ordinal] += safeInt(summary.getMvpCount());
+            counts[SVP][ordinal] += safeInt(summary.getSvpCount());
+            ratingSum[ordinal] += summary.getRatingSum() == null ? 0D : summary.getRatingSum();
+        }
+
+        /**
+         * 计算每个序号的名称字典序，作为所有榜单的最终排序条件
+         *
+         * @return nameRank[序号] = 名称升序排名
+         */
+        int[] nameRank() {
+            String[] sortedNames = Arrays.copyOf(names, size);
+            Arrays.sort(sortedNames);
+            int[] rank = new int[size];
+            for (int i = 0; i < size; i++) {
+                rank[ordinals.get(sortedNames[i])] = i;
+            }
+            return rank;
+        }
+
+        private void grow() {
+            int capacity = names.length * 2;
+            names = Arrays.copyOf(names, capacity);
+            for (int c = 0; c < COLUMN_COUNT; c++) {
+                counts[c] = Arrays.copyOf(counts[c], capacity);
+            }
+            ratingSum = Arrays.copyOf(ratingSum, capacity);
+        }
     }
 }
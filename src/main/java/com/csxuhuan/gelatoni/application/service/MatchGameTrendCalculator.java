@@ -0,0 +1,173 @@
+package com.csxuhuan.gelatoni.application.service;
+
+import com.csxuhuan.gelatoni.application.dto.MatchGameTrendDTO;
+import com.csxuhuan.gelatoni.domain.model.common.GameDay;
+import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerGameStats;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 比赛趋势计算器
+ *
+ * <p>核心职责：
+ * <ul>
+ *     <li>输入：筛选范围内的我方球员比赛数据（已带比赛时间和结果）</li>
+ *     <li>处理：按游戏日期统计每日胜率，按日期+球员统计各指标场均</li>
+ *     <li>输出：{@link MatchGameTrendDTO}</li>
+ * </ul>
+ *
+ * <p>实现方式：
+ * <ul>
+ *     <li>游戏日期和球员各分配一个连续序号</li>
+ *     <li>所有指标累加到一个 double[] 中，下标为 (球员序号 × 日期数 + 日期序号) × 指标数 + 指标</li>
+ *     <li>明细只遍历一次完成累加，输出时按日期升序、球员名称升序组装结果</li>
+ * </ul>
+ *
+ * <p>计算规则：
+ * <ul>
+ *     <li>游戏日期：8:00-次日2:00 为一个游戏日，0:00-8:00 的比赛属于前一天（{@link GameDay#bucketOf}），
+ *     比赛时间为空的比赛不参与趋势统计</li>
+ *     <li>每日胜率：当天胜场 / 当天比赛场数，保留三位小数</li>
+ *     <li>每日场均：当天累计值 / 当天上场次数，保留一位小数；当天未上场记为 0</li>
+ * </ul>
+ */
+public class MatchGameTrendCalculator {
+
+    /** 指标名称，顺序与累加数组中的指标下标一致 */
+    private static final String[] METRICS = {"rating", "score", "rebound", "assist", "steal", "block"};
+
+    /** 每个（球员, 日期）格子占用的槽位：各指标累计值 + 上场次数 */
+    private static final int SLOTS = METRICS.length + 1;
+
+    /** 上场次数所在槽位 */
+    private static final int GAME_COUNT = METRICS.length;
+
+    private MatchGameTrendCalculator() {
+    }
+
+    /**
+     * 核心计算方法：生成比赛趋势数据
+     *
+     * @param playerGameStats 我方球员比赛数据（team_type=1）
+     * @return 趋势数据DTO
+     */
+    public static MatchGameTrendDTO calculate(List<MatchPlayerGameStats> playerGameStats) {
+        List<MatchPlayerGameStats> source = playerGameStats == null ? Collections.emptyList() : playerGameStats;
+        int rowCount = source.size();
+
+        // 1. 分配序号：每行记录对应的日期序号和球员序号（球员名称为空记为 -1，只参与胜率统计）
+        Map<LocalDate, Integer> dateOrdinals = new HashMap<>();
+        Map<String, Integer> playerOrdinals = new HashMap<>();
+        List<LocalDate> dates = new ArrayList<>();
+        List<String> players = new ArrayList<>();
+        int[] rowDate = new int[rowCount];
+        int[] rowPlayer = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            MatchPlayerGameStats stat = source.get(i);
+            LocalDate date = GameDay.bucketOf(stat.getMatchTime());
+            if (date == null) {
+                rowDate[i] = -1;
+                continue;
+            }
+            Integer dateOrdinal = dateOrdinals.get(date);
+            if (dateOrdinal == null) {
+                dateOrdinal = dates.size();
+                dateOrdinals.put(date, dateOrdinal);
+                dates.add(date);
+            }
+            rowDate[i] = dateOrdinal;
+
+            String playerName = stat.getPlayerName();
+            if (playerName == null) {
+                rowPlayer[i] = -1;
+                continue;
+            }
+            Integer playerOrdinal = playerOrdinals.get(playerName);
+            if (playerOrdinal == null) {
+                playerOrdinal = players.size();
+                playerOrdinals.put(playerName, playerOrdinal);
+                players.add(playerName);
+            }
+            rowPlayer[i] = playerOrdinal;
+        }
+
+        // 2. 一次遍历累加：每日比赛场数/胜场（同一场比赛只计一次），以及球员×日期×指标
+        int dateCount = dates.size();
+        int[] matchCount = new int[dateCount];
+        int[] winCount = new int[dateCount];
+        double[] sums = new double[players.size() * dateCount * SLOTS];
+        Set<Long> countedMatches = new HashSet<>();
+        for (int i = 0; i < rowCount; i++) {
+            int dateOrdinal = rowDate[i];
+            if (dateOrdinal < 0) {
+                continue;
+            }
+            MatchPlayerGameStats stat = source.get(i);
+            if (countedMatches.add(stat.getMatchId())) {
+                matchCount[dateOrdinal]++;
+                if (Boolean.TRUE.equals(stat.getResult())) {
+                    winCount[dateOrdinal]++;
+                }
+            }
+
+            int playerOrdinal = rowPlayer[i];
+            if (playerOrdinal < 0) {
+                continue;
+            }
+            int base = (playerOrdinal * dateCount + dateOrdinal) * SLOTS;
+            sums[base] += stat.getRating() != null ? stat.getRating() : 0;
+            sums[base + 1] += stat.getScore() != null ? stat.getScore() : 0;
+            sums[base + 2] += stat.getRebound() != null ? stat.getRebound() : 0;
+            sums[base + 3] += stat.getAssist() != null ? stat.getAssist() : 0;
+            sums[base + 4] += stat.getSteal() != null ? stat.getSteal() : 0;
+            sums[base + 5] += stat.getBlock() != null ? stat.getBlock() : 0;
+            sums[base + GAME_COUNT]++;
+        }
+
+        // 3. 日期按升序输出
+        Integer[] dateOrder = new Integer[dateCount];
+        for (int d = 0; d < dateCount; d++) {
+            dateOrder[d] = d;
+        }
+        Arrays.sort(dateOrder, (a, b) -> dates.get(a).compareTo(dates.get(b)));
+
+        List<String> sortedDates = new ArrayList<>(dateCount);
+        List<Double> winRates = new ArrayList<>(dateCount);
+        for (int d : dateOrder) {
+            sortedDates.add(dates.get(d).toString());
+            double winRate = (double) winCount[d] / matchCount[d];
+            winRates.add(Math.round(winRate * 1000.0) / 1000.0);
+        }
+
+        // 4. 球员按名称升序输出，每个指标一个按日期排列的场均列表
+        List<String> sortedPlayers = new ArrayList<>(players);
+        Collections.sort(sortedPlayers);
+
+        Map<String, Map<String, List<Double>>> playerMetrics = new LinkedHashMap<>();
+        for (String playerName : sortedPlayers) {
+            int playerOrdinal = playerOrdinals.get(playerName);
+            Map<String, List<Double>> metrics = new LinkedHashMap<>();
+            for (int m = 0; m < METRICS.length; m++) {
+                List<Double> values = new ArrayList<>(dateCount);
+                for (int d : dateOrder) {
+                    int base = (playerOrdinal * dateCount + d) * SLOTS;
+                    double gameCount = sums[base + GAME_COUNT];
+                    values.add(gameCount > 0 ? Math.round(sums[base + m] / gameCount * 10.0) / 10.0 : 0.0);
+                }
+                metrics.put(METRICS[m], values);
+            }
+            playerMetrics.put(playerName, metrics);
+        }
+
+        return new MatchGameTrendDTO(sortedDates, winRates, playerMetrics);
+    }
+}
@@ -7,12 +7,14 @@ import com.csxuhuan.gelatoni.domain.model.entity.Permission;
 import com.csxuhuan.gelatoni.domain.model.entity.Role;
 import com.csxuhuan.gelatoni.domain.model.entity.User;
 import com.csxuhuan.gelatoni.domain.service.UserDomainService;
+import com.csxuhuan.gelatoni.infrastructure.redis.manager.AuthCacheManager;
 import com.csxuhuan.gelatoni.infrastructure.repository.PermissionRepository;
 import com.csxuhuan.gelatoni.infrastructure.repository.RolePermissionRepository;
 import com.csxuhuan.gelatoni.infrastructure.repository.RoleRepository;
 import com.csxuhuan.gelatoni.infrastructure.repository.UserRoleRepository;
 import com.csxuhuan.gelatoni.infrastructure.util.JwtUtil;
 import com.csxuhuan.gelatoni.infrastructure.util.PasswordUtil;
+import com.csxuhuan.gelatoni.interfaces.web.common.PermissionRegistry;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -46,6 +48,7 @@ public class AuthAppServiceImpl implements AuthAppService {
     private final PermissionRepository permissionRepository;
     private final UserAssembler userAssembler;
     private final JwtUtil jwtUtil;
+    private final AuthCacheManager authCacheManager;
 
     /**
      * 构造函数，注入依赖
@@ -57,6 +60,7 @@ public class AuthAppServiceImpl implements AuthAppService {
      * @param permissionRepository      权限仓储
      * @param userAssembler             用户装配器
      * @param jwtUtil                   JWT 工具类
+     * @param authCacheManager          认证信息缓存管理器
      */
     public AuthAppServiceImpl(UserDomainService userDomainService,
                               UserRoleRepository userRoleRepository,
@@ -64,7 +68,8 @@ public class AuthAppServiceImpl implements AuthAppService {
                               RolePermissionRepository rolePermissionRepository,
                               PermissionRepository permissionRepository,
                               UserAssembler userAssembler,
-                              JwtUtil jwtUtil) {
+                              JwtUtil jwtUtil,
+                              AuthCacheManager authCacheManager) {
         this.userDomainService = userDomainService;
         this.userRoleRepository = userRoleRepository;
         this.roleRepository = roleRepository;
@@ -72,6 +77,7 @@ public class AuthAppServiceImpl implements AuthAppService {
         this.permissionRepository = permissionRepository;
         this.userAssembler = userAssembler;
         this.jwtUtil = jwtUtil;
+        this.authCacheManager = authCacheManager;
     }
 
     /**
@@ -109,6 +115,45 @@ public class AuthAppServiceImpl implements AuthAppService {
         return userAssembler.toUserInfoDTO(user, roleCodes, permissionCodes);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>实现说明：
+     * <ol>
+     *     <li>取用户当前的权限版本，按用户ID读取缓存，命中、版本一致且用户名一致时直接返回</li>
+     *     <li>未命中时按用户名查询用户、角色码、权限码</li>
+     *     <li>查询到的用户ID与 Token 中的一致时连同查询前取得的版本写入缓存</li>
+     * </ol>
+     */
+    @Override
+    public UserInfoDTO getAuthUserInfo(Long userId, String username) {
+        // 1. 先取版本再读缓存：查询之后发生的权限变更一定会使版本变化，写入的快照随之失效
+        String version = authCacheManager.getPermissionVersion(userId);
+        UserInfoDTO cached = authCacheManager.getUser(userId, version);
+        if (cached != null && cached.getUser() != null && username.equals(cached.getUser().getUsername())) {
+            return cached;
+        }
+
+        // 2. 查询用户、角色码、权限码
+        UserInfoDTO userInfo = getUserWithRolesAndPermissions(username);
+        if (userInfo.getUser() == null || !userId.equals(userInfo.getUser().getId())) {
+            // 用户不存在或已被替换为同名的其他用户，不缓存
+            return userAssembler.toUserInfoDTO(null, Collections.emptyList(), Collections.emptyList());
+        }
+
+        // 3. 写入缓存
+        authCacheManager.setUser(userId, userInfo, version);
+        return userInfo;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPermissionVersion(Long userId) {
+        return authCacheManager.getPermissionVersion(userId);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -116,7 +161,7 @@ public class AuthAppServiceImpl implements AuthAppService {
      * <ol>
      *     <li>验证用户凭证（用户名和密码）</li>
      *     <li>获取用户角色和权限信息</li>
-     *     <li>生成 JWT Token</li>
+     *     <li>生成 JWT Token（开启 jwt.embed-permissions 时嵌入角色、权限位集和权限版本）</li>
      *     <li>返回用户信息（包含 Token）</li>
      * </ol>
      */
@@ -126,10 +171,17 @@ public class AuthAppServiceImpl implements AuthAppService {
         User user = validateUserCredentials(username, password);
 
         // 2. 获取用户角色和权限信息
+        // 嵌入权限时先取版本再查询权限：查询之后发生的权限变更一定会使版本变化，Token 随之作废
+        String permissionVersion = jwtUtil.isEmbedPermissions()
+                ? authCacheManager.getPermissionVersion(user.getId())
+                : null;
         UserInfoDTO userInfoDTO = getUserWithRolesAndPermissions(username);
 
         // 3. 生成 JWT Token
-        String token = jwtUtil.generateToken(user.getId(), user.getUsername());
+        String token = permissionVersion != null
+                ? jwtUtil.generateToken(user.getId(), user.getUsername(), userInfoDTO.getRoleCodes(),
+                        PermissionRegistry.encode(userInfoDTO.getPermissionCodes()), permissionVersion)
+                : jwtUtil.generateToken(user.getId(), user.getUsername());
 
         // 4. 设置 Token 并返回
         userInfoDTO.setToken(token);
@@ -141,14 +193,32 @@ public class AuthAppServiceImpl implements AuthAppService {
      *
      * <p>实现说明：
      * <ol>
+     *     <li>取当前的全局权限版本，按角色编码读取缓存，命中且版本一致时直接返回</li>
      *     <li>根据角色编码查询角色信息</li>
      *     <li>根据角色ID查询权限ID列表</li>
      *     <li>根据权限ID列表查询权限信息，提取权限码</li>
-     *     <li>使用 Assembler 转换为 DTO 并返回</li>
+     *     <li>使用 Assembler 转换为 DTO，连同查询前取得的版本写入缓存并返回</li>
      * </ol>
      */
     @Override
     public UserInfoDTO getUserInfoByRoleCode(String roleCode) {
+        String version = authCacheManager.getGlobalPermissionVersion();
+        UserInfoDTO cached = authCacheManager.getRole(roleCode, version);
+        if (cached != null) {
+            return cached;
+        }
+        UserInfoDTO roleInfo = loadUserInfoByRoleCode(roleCode);
+        authCacheManager.setRole(roleCode, roleInfo, version);
+        return roleInfo;
+    }
+
+    /**
+     * 查询角色编码对应的角色码和权限码
+     *
+     * @param roleCode 角色编码
+     * @return 用户信息结果（user 为 null）
+     */
+    private UserInfoDTO loadUserInfoByRoleCode(String roleCode) {
         // 1. 初始化角色码列表，先加入传入的角色编码（即使查询不到，也要包含这个角色）
         List<String> roleCodes = new ArrayList<>();
         roleCodes.add(roleCode);
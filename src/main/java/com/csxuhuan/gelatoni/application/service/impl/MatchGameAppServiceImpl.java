@@ -2,6 +2,7 @@ package com.csxuhuan.gelatoni.application.service.impl;
 
 import com.csxuhuan.gelatoni.application.dto.MatchGameDTO;
 import com.csxuhuan.gelatoni.application.dto.MatchGameBaseDataDTO;
+import com.csxuhuan.gelatoni.application.dto.MatchGameBaseDataSnapshot;
 import com.csxuhuan.gelatoni.application.dto.MatchGameDetailDTO;
 import com.csxuhuan.gelatoni.application.dto.MatchGameStatsDTO;
 import com.csxuhuan.gelatoni.application.dto.MatchGameStatsMetric;
@@ -9,18 +10,25 @@ import com.csxuhuan.gelatoni.application.dto.MatchGameTrendDTO;
 import com.csxuhuan.gelatoni.application.dto.OpponentStatsDTO;
 import com.csxuhuan.gelatoni.application.service.MatchGameAppService;
 import com.csxuhuan.gelatoni.application.service.MatchGameStatsCalculator;
+import com.csxuhuan.gelatoni.application.service.MatchGameTrendCalculator;
 import com.csxuhuan.gelatoni.application.service.MatchGameDataValidator;
 import com.csxuhuan.gelatoni.domain.model.entity.MatchGame;
+import com.csxuhuan.gelatoni.domain.model.entity.MatchGameBaseData;
+import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerGameStats;
 import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerStats;
+import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerStatsSummary;
 import com.csxuhuan.gelatoni.domain.query.MatchGameCreateQuery;
 import com.csxuhuan.gelatoni.domain.query.MatchGameUpdateQuery;
 import com.csxuhuan.gelatoni.domain.query.MatchGamePageQuery;
+import com.csxuhuan.gelatoni.domain.result.PageResult;
 import com.csxuhuan.gelatoni.domain.service.MatchGameDomainService;
 import com.csxuhuan.gelatoni.application.assembler.MatchGameAssembler;
 import com.csxuhuan.gelatoni.infrastructure.redis.generator.MatchGameStatsCacheKeyGenerator;
 import com.csxuhuan.gelatoni.infrastructure.redis.manager.MatchGameStatsCacheManager;
 import com.csxuhuan.gelatoni.infrastructure.repository.MatchGameRepository;
 import com.csxuhuan.gelatoni.infrastructure.repository.MatchPlayerStatsRepository;
+import com.csxuhuan.gelatoni.infrastructure.repository.MatchPlayerStatsSummaryRepository;
+import com.csxuhuan.gelatoni.interfaces.web.common.PageData;
 import com.csxuhuan.gelatoni.interfaces.web.request.MatchGameCreateRequest;
 import com.csxuhuan.gelatoni.interfaces.web.request.MatchGameUpdateRequest;
 import com.csxuhuan.gelatoni.interfaces.web.request.MatchGameStatsRequest;
@@ -28,13 +36,16 @@ import com.csxuhuan.gelatoni.interfaces.web.request.MatchGameTrendRequest;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 
 /**
  * 比赛应用服务实现类
@@ -47,23 +58,43 @@ public class MatchGameAppServiceImpl implements MatchGameAppService {
     private final MatchGameDomainService matchGameDomainService;
     private final MatchGameRepository matchGameRepository;
     private final MatchPlayerStatsRepository matchPlayerStatsRepository;
+    private final MatchPlayerStatsSummaryRepository matchPlayerStatsSummaryRepository;
     private final MatchGameDataValidator dataValidator;
     private final MatchGameStatsCacheManager cacheManager;
     private final MatchGameStatsCacheKeyGenerator keyGenerator;
+    private final ObjectMapper objectMapper;
     private final MatchGameAssembler assembler = new MatchGameAssembler();
 
+    /** 统计榜单数据来源：按日汇总表 */
+    private static final String STATS_SOURCE_SUMMARY = "summary";
+    /** 统计榜单数据来源：数据库按名称分组聚合 */
+    private static final String STATS_SOURCE_GROUP_BY = "group-by";
+    /** 统计榜单数据来源：读取明细后内存聚合 */
+    private static final String STATS_SOURCE_DETAIL = "detail";
+
+    /** 每个榜单最多返回的条数，不同取值对应不同的缓存键，因此限制上限 */
+    private static final int MAX_TOP_N = 100;
+
+    /** 统计榜单数据来源，可选 summary / group-by / detail，默认 detail；summary 需先建表并回填 */
+    @Value("${match.stats.source:detail}")
+    private String statsSource;
+
     public MatchGameAppServiceImpl(MatchGameDomainService matchGameDomainService,
                                   MatchGameRepository matchGameRepository,
                                   MatchPlayerStatsRepository matchPlayerStatsRepository,
+                                  MatchPlayerStatsSummaryRepository matchPlayerStatsSummaryRepository,
                                   MatchGameDataValidator dataValidator,
                                   MatchGameStatsCacheManager cacheManager,
-                                  MatchGameStatsCacheKeyGenerator keyGenerator) {
+                                  MatchGameStatsCacheKeyGenerator keyGenerator,
+                                  ObjectMapper objectMapper) {
         this.matchGameDomainService = matchGameDomainService;
         this.matchGameRepository = matchGameRepository;
         this.matchPlayerStatsRepository = matchPlayerStatsRepository;
+        this.matchPlayerStatsSummaryRepository = matchPlayerStatsSummaryRepository;
         this.dataValidator = dataValidator;
         this.cacheManager = cacheManager;
         this.keyGenerator = keyGenerator;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -100,9 +131,15 @@ public class MatchGameAppServiceImpl implements MatchGameAppService {
      * {@inheritDoc}
      */
     @Override
-    public List<MatchGameDTO> getMatchGamePage(MatchGamePageQuery query) {
-        List<MatchGame> matchGames = matchGameDomainService.getMatchGamePage(query);
-        return assembler.toMatchGameDTOList(matchGames);
+    public PageData<MatchGameDTO> getMatchGamePage(MatchGamePageQuery query) {
+        // 第一页总是查询总数并写入缓存，之后的页优先使用缓存的总数，不再执行 COUNT
+        String countKey = keyGenerator.generateCountKey(query.getSeason());
+        Long cachedTotal = query.getPageNo() > 1 ? cacheManager.getMatchCount(countKey) : null;
+        PageResult<MatchGame> pageResult = matchGameDomainService.getMatchGamePage(query, cachedTotal);
+        if (cachedTotal == null) {
+            cacheManager.setMatchCount(countKey, pageResult.getTotal());
+        }
+        return assembler.toPageData(pageResult);
     }
 
     /**
@@ -138,16 +175,36 @@ public class MatchGameAppServiceImpl implements MatchGameAppService {
     public MatchGameStatsDTO getMatchGameStats(MatchGameStatsRequest request) {
         // 约束：只统计我方数据（team_type=1），由 Repository/SQL 保证。
 
-        // 1. 生成缓存键
+        // 1. 规范榜单条数后生成缓存键，保证缓存键的取值有限
+        if (request != null) {
+            request.setTopN(normalizeTopN(request.getTopN()));
+        }
         String cacheKey = keyGenerator.generateKey(request);
-        
-        // 2. 尝试从缓存获取
-        MatchGameStatsDTO cachedStats = cacheManager.getStats(cacheKey);
-        if (cachedStats != null) {
-            return cachedStats;
+
+        // 2. 优先从缓存获取；未命中时同一个键只由一个请求查询计算，其余请求等待结果
+        return cacheManager.getOrLoadStats(cacheKey, () -> calculateStats(request));
+    }
+
+    /**
+     * 规范榜单条数：为空或不大于 0 表示全部，超过上限按上限处理
+     *
+     * @param topN 请求的榜单条数
+     * @return 规范后的榜单条数，null 表示全部
+     */
+    private static Integer normalizeTopN(Integer topN) {
+        if (topN == null || topN <= 0) {
+            return null;
         }
+        return Math.min(topN, MAX_TOP_N);
+    }
 
-        // 3. 缓存未命中，执行数据库查询和计算
+    /**
+     * 查询数据库并计算统计榜单（不经过缓存）
+     *
+     * @param request 统计请求参数
+     * @return 统计结果
+     */
+    private MatchGameStatsDTO calculateStats(MatchGameStatsRequest request) {
         String season = request == null ? null : request.getSeason();
         Boolean excludeRobot = request == null ? null : request.getExcludeRobot();
         String matchDate = request == null ? null : request.getMatchDate();
@@ -157,205 +214,158 @@ public class MatchGameAppServiceImpl implements MatchGameAppService {
                 ? MatchGameStatsDTO.Dimension.USER
                 : MatchGameStatsDTO.Dimension.PLAYER;
 
-        List<MatchPlayerStats> myPlayerStats = matchPlayerStatsRepository.findMyPlayerStatsForStats(season, excludeRobot, matchDate);
-        MatchGameStatsDTO calculatedStats = MatchGameStatsCalculator.calculate(season, dim, myPlayerStats);
-
-        // 4. 将计算结果存入缓存
-        cacheManager.setStats(cacheKey, calculatedStats);
-
+        Integer topN = request == null ? null : request.getTopN();
+        MatchGameStatsDTO calculatedStats;
+        if (STATS_SOURCE_SUMMARY.equals(statsSource)) {
+            // 基于按日汇总数据计算，避免每次读取全部球员明细
+            List<MatchPlayerStatsSummary> summaries = matchPlayerStatsSummaryRepository.findForStats(season, excludeRobot, matchDate);
+            calculatedStats = MatchGameStatsCalculator.calculateFromSummaries(season, dim, summaries, topN);
+        } else if (STATS_SOURCE_GROUP_BY.equals(statsSource)) {
+            // 在数据库中按名称分组聚合，每个名称只返回一行
+            List<MatchPlayerStatsSummary> aggregated = matchPlayerStatsRepository.aggregateMyPlayerStats(
+                    dim == MatchGameStatsDTO.Dimension.USER, season, excludeRobot, matchDate);
+            calculatedStats = MatchGameStatsCalculator.calculateFromSummaries(season, dim, aggregated, topN);
+        } else {
+            // 默认流式读取球员明细，逐行在内存中累加，不保留中间列表
+            MatchGameStatsCalculator.Accumulator accumulator = MatchGameStatsCalculator.newAccumulator(dim);
+            matchPlayerStatsRepository.streamMyPlayerStatsForStats(season, excludeRobot, matchDate, accumulator);
+            calculatedStats = accumulator.toStatsDTO(season, topN);
+        }
         return calculatedStats;
     }
 
     @Override
     public MatchGameTrendDTO getMatchGameTrend(MatchGameTrendRequest request) {
-    	String season = request == null ? null : request.getSeason();
-    	Boolean excludeRobot = request == null ? null : request.getExcludeRobot();
-       
-    	// 获取所有数据
-    	List<MatchPlayerStats> allPlayerStats = matchPlayerStatsRepository.findMyPlayerStatsForStats(season, excludeRobot, null);
-    	
-    	// 按游戏日期分组（游戏日期范围：8:00-次日2:00）
-    	Map<String, List<MatchPlayerStats>> groupedByDate = new HashMap<>();
-    	Map<String, Set<Long>> dateToMatchIds = new HashMap<>();
-    	
-    	for (MatchPlayerStats stat : allPlayerStats) {
-    		MatchGame match = matchGameRepository.findById(stat.getMatchId());
-    		if (match != null && match.getMatchTime() != null) {
-    			String dateStr = getGameDate(match.getMatchTime());
-    			groupedByDate.computeIfAbsent(dateStr, k -> new ArrayList<>()).add(stat);
-    			dateToMatchIds.computeIfAbsent(dateStr, k -> new java.util.HashSet<>()).add(stat.getMatchId());
-    		}
-    	}
-    	
-    	List<String> sortedDates = groupedByDate.keySet().stream().sorted().collect(Collectors.toList());
-    	
-    	// 计算每日胜率
-    	List<Double> winRates = new ArrayList<>();
-    	for (String date : sortedDates) {
-    		Set<Long> matchIds = dateToMatchIds.get(date);
-    		if (matchIds == null || matchIds.isEmpty()) {
-    			continue;
-    		}
-    		int wins = (int) matchIds.stream()
-    				.map(matchGameRepository::findById)
-    				.filter(m -> m != null && Boolean.TRUE.equals(m.getResult()))
-    				.count();
-    		double winRate = (double) wins / matchIds.size();
-    		winRates.add(Math.round(winRate * 1000.0) / 1000.0);
-    	}
-    	
-    	// 过滤掉没有数据的日期
-    	List<String> validDates = new ArrayList<>();
-    	for (String date : sortedDates) {
-    		if (dateToMatchIds.get(date) != null && !dateToMatchIds.get(date).isEmpty()) {
-    			validDates.add(date);
-    		}
-    	}
-    	sortedDates = validDates;
-    	
-    	// 按日期+球员维度累加各指标，计算场均
-    	Map<String, Map<String, List<Double>>> playerMetrics = new LinkedHashMap<>();
-    	Set<String> allPlayers = new java.util.HashSet<>();
-    	for (List<MatchPlayerStats> dayStats : groupedByDate.values()) {
-    		dayStats.forEach(s -> allPlayers.add(s.getPlayerName()));
-    	}
-    	
-    	for (String playerName : allPlayers) {
-    		Map<String, List<Double>> metrics = new LinkedHashMap<>();
-    		List<Double> ratings = new ArrayList<>();
-    		List<Double> scores = new ArrayList<>();
-    		List<Double> rebounds = new ArrayList<>();
-    		List<Double> assists = new ArrayList<>();
-    		List<Double> steals = new ArrayList<>();
-    		List<Double> blocks = new ArrayList<>();
-    		
-    		for (String date : sortedDates) {
-    			List<MatchPlayerStats> dayStats = groupedByDate.get(date);
-    			// 按日期+球员维度累加各指标
-    			double ratingSum = 0;
-    			int scoreSum = 0;
-    			int reboundSum = 0;
-    			int assistSum = 0;
-    			int stealSum = 0;
-    			int blockSum = 0;
-    			int gameCount = 0;
-    			
-    			for (MatchPlayerStats stat : dayStats) {
-    				if (playerName.equals(stat.getPlayerName())) {
-    					ratingSum += stat.getRating() != null ? stat.getRating() : 0;
-    					scoreSum += stat.getScore() != null ? stat.getScore() : 0;
-    					reboundSum += stat.getRebound() != null ? stat.getRebound() : 0;
-    					assistSum += stat.getAssist() != null ? stat.getAssist() : 0;
-    					stealSum += stat.getSteal() != null ? stat.getSteal() : 0;
-    					blockSum += stat.getBlock() != null ? stat.getBlock() : 0;
-    					gameCount++;
-    				}
-    			}
-    			
-    			// 计算场均
-    			if (gameCount > 0) {
-    				ratings.add(Math.round(ratingSum / gameCount * 10.0) / 10.0);
-    				scores.add(Math.round((double) scoreSum / gameCount * 10.0) / 10.0);
-    				rebounds.add(Math.round((double) reboundSum / gameCount * 10.0) / 10.0);
-    				assists.add(Math.round((double) assistSum / gameCount * 10.0) / 10.0);
-    				steals.add(Math.round((double) stealSum / gameCount * 10.0) / 10.0);
-    				blocks.add(Math.round((double) blockSum / gameCount * 10.0) / 10.0);
-    			} else {
-    				ratings.add(0.0);
-    				scores.add(0.0);
-    				rebounds.add(0.0);
-    				assists.add(0.0);
-    				steals.add(0.0);
-    				blocks.add(0.0);
-    			}
-    		}
-    		
-    		metrics.put("rating", ratings);
-    		metrics.put("score", scores);
-    		metrics.put("rebound", rebounds);
-    		metrics.put("assist", assists);
-    		metrics.put("steal", steals);
-    		metrics.put("block", blocks);
-    		playerMetrics.put(playerName, metrics);
-    	}
-    	
-    	return new MatchGameTrendDTO(sortedDates, winRates, playerMetrics);
+        // 1. 生成缓存键并尝试从缓存获取
+        String cacheKey = keyGenerator.generateTrendKey(request);
+        MatchGameTrendDTO cachedTrend = cacheManager.getTrend(cacheKey);
+        if (cachedTrend != null) {
+            return cachedTrend;
+        }
+
+        // 2. 缓存未命中，一次关联查询获取我方球员数据（已带比赛时间和结果）并计算
+        String season = request == null ? null : request.getSeason();
+        Boolean excludeRobot = request == null ? null : request.getExcludeRobot();
+        List<MatchPlayerGameStats> allPlayerStats = matchPlayerStatsRepository.findPlayerGameStats(1, season, excludeRobot);
+        MatchGameTrendDTO calculatedTrend = MatchGameTrendCalculator.calculate(allPlayerStats);
+
+        // 3. 将计算结果存入缓存
+        cacheManager.setTrend(cacheKey, calculatedTrend);
+
+        return calculatedTrend;
     }
 
     @Override
     public OpponentStatsDTO getOpponentStats(String season, Integer minGames) {
         final int minGamesValue = minGames != null ? minGames : 3;
+
+        // 1. 生成缓存键并尝试从缓存获取
+        String cacheKey = keyGenerator.generateOpponentKey(season, minGamesValue);
+        OpponentStatsDTO cachedStats = cacheManager.getOpponentStats(cacheKey);
+        if (cachedStats != null) {
+            return cachedStats;
+        }
         
-        // 查询对方球员数据（team_type=2），排除机器人
+        // 2. 查询对方球员数据（team_type=2），排除机器人
         List<MatchPlayerStats> opponentStats = matchPlayerStatsRepository.findOpponentPlayerStatsForStats(season, true);
         
-        // 获取所有比赛ID并查询结果和得分
-        java.util.Set<Long> matchIds = opponentStats.stream()
+        // 3. 一次批量查询所有相关比赛的结果和得分
+        Set<Long> matchIds = opponentStats.stream()
                 .map(MatchPlayerStats::getMatchId)
-                .collect(java.util.stream.Collectors.toSet());
-        Map<Long, MatchGame> matchMap = new java.util.HashMap<>();
-        if (!matchIds.isEmpty()) {
-            for (Long matchId : matchIds) {
-                MatchGame match = matchGameRepository.findById(matchId);
-                if (match != null) {
-                    matchMap.put(matchId, match);
+                .collect(Collectors.toSet());
+        Map<Long, MatchGame> matchMap = new HashMap<>();
+        for (MatchGame match : matchGameRepository.findByIds(matchIds)) {
+            matchMap.put(match.getId(), match);
+        }
+        
+        // 4. 一次遍历按对手球员名称累加：场次、胜场、净胜分合计
+        Map<String, int[]> accumulators = new HashMap<>();
+        for (MatchPlayerStats stat : opponentStats) {
+            if (stat.getPlayerName() == null) {
+                continue;
+            }
+            int[] acc = accumulators.computeIfAbsent(stat.getPlayerName(), k -> new int[3]);
+            acc[0]++;
+            MatchGame match = matchMap.get(stat.getMatchId());
+            if (match != null) {
+                if (Boolean.TRUE.equals(match.getResult())) {
+                    acc[1]++;
                 }
+                int myScore = match.getMyScore() != null ? match.getMyScore() : 0;
+                int oppScore = match.getOppScore() != null ? match.getOppScore() : 0;
+                acc[2] += myScore - oppScore;
             }
         }
         
-        // 按对手球员名称分组统计
-        Map<String, List<MatchPlayerStats>> groupedByPlayer = opponentStats.stream()
-                .collect(Collectors.groupingBy(MatchPlayerStats::getPlayerName));
-        
-        List<OpponentStatsDTO.OpponentRecord> records = groupedByPlayer.entrySet().stream()
-                .map(entry -> {
-                    String playerName = entry.getKey();
-                    List<MatchPlayerStats> playerMatches = entry.getValue();
-                    
-                    int totalGames = playerMatches.size();
-                    int wins = (int) playerMatches.stream()
-                            .filter(p -> {
-                                MatchGame match = matchMap.get(p.getMatchId());
-                                return match != null && match.getResult();
-                            })
-                            .count();
-                    int losses = totalGames - wins;
-                    double winRate = totalGames > 0 ? (double) wins / totalGames : 0;
-                    
-                    // 计算场均净胜分
-                    int totalPointDifferential = playerMatches.stream()
-                            .mapToInt(p -> {
-                                MatchGame match = matchMap.get(p.getMatchId());
-                                if (match == null) return 0;
-                                return match.getMyScore() - match.getOppScore();
-                            })
-                            .sum();
-                    double avgPointDifferential = totalGames > 0 ? (double) totalPointDifferential / totalGames : 0;
-                    
-                    return new OpponentStatsDTO.OpponentRecord(playerName, totalGames, wins, losses, winRate, avgPointDifferential);
-                })
-                .filter(r -> r.getTotalGames() >= minGamesValue)
-                .sorted((a, b) -> {
-                    // 按胜率升序排列（最难的对手在前）
-                    int cmp = Double.compare(a.getWinRate(), b.getWinRate());
-                    // 胜率相同时，按场均净胜分升序排列（越低越难对战）
-                    return cmp != 0 ? cmp : Double.compare(a.getAvgPointDifferential(), b.getAvgPointDifferential());
-                })
-                .collect(Collectors.toList());
+        List<OpponentStatsDTO.OpponentRecord> records = new ArrayList<>();
+        for (Map.Entry<String, int[]> entry : accumulators.entrySet()) {
+            int[] acc = entry.getValue();
+            int totalGames = acc[0];
+            if (totalGames < minGamesValue) {
+                continue;
+            }
+            int wins = acc[1];
+            double winRate = (double) wins / totalGames;
+            // 场均净胜分
+            double avgPointDifferential = (double) acc[2] / totalGames;
+            records.add(new OpponentStatsDTO.OpponentRecord(entry.getKey(), totalGames, wins, totalGames - wins,
+                    winRate, avgPointDifferential));
+        }
+        records.sort((a, b) -> {
+            // 按胜率升序排列（最难的对手在前）
+            int cmp = Double.compare(a.getWinRate(), b.getWinRate());
+            // 胜率相同时，按场均净胜分升序排列（越低越难对战）
+            if (cmp == 0) {
+                cmp = Double.compare(a.getAvgPointDifferential(), b.getAvgPointDifferential());
+            }
+            // 最后按名称排序，保证结果稳定
+            return cmp != 0 ? cmp : a.getPlayerName().compareTo(b.getPlayerName());
+        });
         
-        return new OpponentStatsDTO(season, records);
+        OpponentStatsDTO result = new OpponentStatsDTO(season, records);
+
+        // 5. 将计算结果存入缓存
+        cacheManager.setOpponentStats(cacheKey, result);
+
+        return result;
     }
 
     @Override
-    public MatchGameBaseDataDTO getMatchGameBaseData() {
+    public MatchGameBaseDataSnapshot getMatchGameBaseData() {
+        // 1. 尝试从缓存获取
+        MatchGameBaseDataSnapshot cached = cacheManager.getBaseData();
+        if (cached != null) {
+            return cached;
+        }
+
+        // 2. 一次查询得到全部去重值
+        MatchGameBaseData baseData = matchGameRepository.findBaseData();
         MatchGameBaseDataDTO dto = new MatchGameBaseDataDTO();
-        dto.setSeasons(matchGameRepository.findDistinctSeasons());
-        dto.setMyPlayerNames(matchPlayerStatsRepository.findDistinctPlayerNames(1));
-        dto.setOpponentPlayerNames(matchPlayerStatsRepository.findDistinctPlayerNames(2));
-        dto.setMyUserNames(matchPlayerStatsRepository.findDistinctMyUserNames());
-        dto.setMatchDatesBySeason(matchGameRepository.findMatchDatesBySeason());
+        dto.setSeasons(baseData.getSeasons());
+        dto.setMyPlayerNames(baseData.getMyPlayerNames());
+        dto.setOpponentPlayerNames(baseData.getOpponentPlayerNames());
+        dto.setMyUserNames(baseData.getMyUserNames());
+        dto.setMatchDatesBySeason(baseData.getMatchDatesBySeason());
         dto.setMetricConfigs(MatchGameStatsMetric.getAllMetricConfigs());
-        return dto;
+
+        // 3. 按内容生成 ETag，内容不变时 ETag 不变
+        MatchGameBaseDataSnapshot snapshot = new MatchGameBaseDataSnapshot(dto, computeETag(dto));
+
+        // 4. 存入缓存
+        cacheManager.setBaseData(snapshot);
+
+        return snapshot;
+    }
+
+    /**
+     * 计算数据的 ETag：JSON 序列化后取 MD5，带双引号
+     */
+    private String computeETag(Object data) {
+        try {
+            return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(data)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("基础数据序列化失败", e);
+        }
     }
 
     @Override
@@ -369,14 +379,4 @@ public class MatchGameAppServiceImpl implements MatchGameAppService {
         MatchGameUpdateQuery query = assembler.toDomainQuery(request);
         dataValidator.validateUpdateData(query);
     }
-
-    private String getGameDate(java.time.LocalDateTime matchTime) {
-        java.time.LocalDate date = matchTime.toLocalDate();
-        java.time.LocalTime timeOfDay = matchTime.toLocalTime();
-        // 游戏日期范围：8:00-次日2:00。0:00-8:00 的比赛属于前一天
-        if (timeOfDay.isBefore(java.time.LocalTime.of(8, 0))) {
-            date = date.minusDays(1);
-        }
-        return date.toString();
-    }
 }
\ No newline at end of file
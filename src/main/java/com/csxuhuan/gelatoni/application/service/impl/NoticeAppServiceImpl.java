@@ -3,7 +3,9 @@ package com.csxuhuan.gelatoni.application.service.impl;
 import com.csxuhuan.gelatoni.application.service.NoticeAppService;
 import com.csxuhuan.gelatoni.domain.model.entity.Notice;
 import com.csxuhuan.gelatoni.domain.query.NoticeCreateQuery;
+import com.csxuhuan.gelatoni.domain.query.NoticeFeedQuery;
 import com.csxuhuan.gelatoni.domain.query.NoticePageQuery;
+import com.csxuhuan.gelatoni.domain.result.CursorPageResult;
 import com.csxuhuan.gelatoni.domain.result.PageResult;
 import com.csxuhuan.gelatoni.domain.service.NoticeDomainService;
 import org.springframework.stereotype.Service;
@@ -46,6 +48,14 @@ public class NoticeAppServiceImpl implements NoticeAppService {
         return noticeDomainService.pageQuery(query);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CursorPageResult<Notice> feedQuery(NoticeFeedQuery query) {
+        return noticeDomainService.feedQuery(query);
+    }
+
     /**
      * {@inheritDoc}
      */
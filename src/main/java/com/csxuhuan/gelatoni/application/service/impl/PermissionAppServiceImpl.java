@@ -4,6 +4,7 @@ import com.csxuhuan.gelatoni.application.service.PermissionAppService;
 import com.csxuhuan.gelatoni.domain.model.entity.Permission;
 import com.csxuhuan.gelatoni.domain.query.PermissionCreateOrUpdateQuery;
 import com.csxuhuan.gelatoni.domain.service.PermissionDomainService;
+import com.csxuhuan.gelatoni.infrastructure.redis.manager.AuthCacheManager;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -15,9 +16,12 @@ import java.util.List;
 public class PermissionAppServiceImpl implements PermissionAppService {
 
     private final PermissionDomainService permissionDomainService;
+    private final AuthCacheManager authCacheManager;
 
-    public PermissionAppServiceImpl(PermissionDomainService permissionDomainService) {
+    public PermissionAppServiceImpl(PermissionDomainService permissionDomainService,
+                                    AuthCacheManager authCacheManager) {
         this.permissionDomainService = permissionDomainService;
+        this.authCacheManager = authCacheManager;
     }
 
     @Override
@@ -32,6 +36,9 @@ public class PermissionAppServiceImpl implements PermissionAppService {
 
     @Override
     public int updatePermission(PermissionCreateOrUpdateQuery query, Long operator) {
-        return permissionDomainService.update(query, operator);
+        int result = permissionDomainService.update(query, operator);
+        // 权限编码可能变化，已缓存的权限码全部失效
+        authCacheManager.evictAll();
+        return result;
     }
 }
@@ -5,6 +5,7 @@ import com.csxuhuan.gelatoni.domain.model.entity.Permission;
 import com.csxuhuan.gelatoni.domain.model.entity.Role;
 import com.csxuhuan.gelatoni.domain.query.RoleCreateOrUpdateQuery;
 import com.csxuhuan.gelatoni.domain.service.RoleDomainService;
+import com.csxuhuan.gelatoni.infrastructure.redis.manager.AuthCacheManager;
 import com.csxuhuan.gelatoni.infrastructure.repository.PermissionRepository;
 import com.csxuhuan.gelatoni.infrastructure.repository.RolePermissionRepository;
 import org.springframework.stereotype.Service;
@@ -21,12 +22,15 @@ public class RoleAppServiceImpl implements RoleAppService {
     private final RoleDomainService roleDomainService;
     private final RolePermissionRepository rolePermissionRepository;
     private final PermissionRepository permissionRepository;
+    private final AuthCacheManager authCacheManager;
 
     public RoleAppServiceImpl(RoleDomainService roleDomainService,
-                              RolePermissionRepository rolePermissionRepository, PermissionRepository permissionRepository) {
+                              RolePermissionRepository rolePermissionRepository, PermissionRepository permissionRepository,
+                              AuthCacheManager authCacheManager) {
         this.roleDomainService = roleDomainService;
         this.rolePermissionRepository = rolePermissionRepository;
         this.permissionRepository = permissionRepository;
+        this.authCacheManager = authCacheManager;
     }
 
     @Override
@@ -41,13 +45,19 @@ public class RoleAppServiceImpl implements RoleAppService {
 
     @Override
     public int updateRole(RoleCreateOrUpdateQuery query, Long operator) {
-        return roleDomainService.update(query, operator);
+        int result = roleDomainService.update(query, operator);
+        // 角色编码可能变化，已缓存的角色码全部失效
+        authCacheManager.evictAll();
+        return result;
     }
 
     @Override
     public int assignPermissions(Long roleId, List<Long> permissionIds, Long operator) {
         rolePermissionRepository.deleteByRoleId(roleId, operator);
-        return rolePermissionRepository.createBatch(roleId, permissionIds, operator);
+        int result = rolePermissionRepository.createBatch(roleId, permissionIds, operator);
+        // 拥有该角色的用户及角色本身的权限码都已变化
+        authCacheManager.evictAll();
+        return result;
     }
 
     @Override
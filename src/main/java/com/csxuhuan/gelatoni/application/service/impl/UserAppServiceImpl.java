@@ -6,6 +6,7 @@ import com.csxuhuan.gelatoni.application.service.UserAppService;
 import com.csxuhuan.gelatoni.domain.model.entity.Role;
 import com.csxuhuan.gelatoni.domain.model.entity.User;
 import com.csxuhuan.gelatoni.domain.service.UserDomainService;
+import com.csxuhuan.gelatoni.infrastructure.redis.manager.AuthCacheManager;
 import com.csxuhuan.gelatoni.infrastructure.repository.PermissionRepository;
 import com.csxuhuan.gelatoni.infrastructure.repository.RolePermissionRepository;
 import com.csxuhuan.gelatoni.infrastructure.repository.RoleRepository;
@@ -41,6 +42,7 @@ public class UserAppServiceImpl implements UserAppService {
     private final RolePermissionRepository rolePermissionRepository;
     private final PermissionRepository permissionRepository;
     private final UserAssembler userAssembler;
+    private final AuthCacheManager authCacheManager;
 
     /**
      * 构造函数，注入依赖
@@ -51,19 +53,22 @@ public class UserAppServiceImpl implements UserAppService {
      * @param rolePermissionRepository  角色权限关联仓储
      * @param permissionRepository      权限仓储
      * @param userAssembler             用户装配器
+     * @param authCacheManager          认证信息缓存管理器
      */
     public UserAppServiceImpl(UserDomainService userDomainService,
                               UserRoleRepository userRoleRepository,
                               RoleRepository roleRepository,
                               RolePermissionRepository rolePermissionRepository,
                               PermissionRepository permissionRepository,
-                              UserAssembler userAssembler) {
+                              UserAssembler userAssembler,
+                              AuthCacheManager authCacheManager) {
         this.userDomainService = userDomainService;
         this.userRoleRepository = userRoleRepository;
         this.roleRepository = roleRepository;
         this.rolePermissionRepository = rolePermissionRepository;
         this.permissionRepository = permissionRepository;
         this.userAssembler = userAssembler;
+        this.authCacheManager = authCacheManager;
     }
 
     /**
@@ -80,7 +85,10 @@ public class UserAppServiceImpl implements UserAppService {
     @Override
     public int assignRoles(Long userId, List<Long> roleIds, Long operator) {
         userRoleRepository.deleteByUserId(userId, operator);
-        return userRoleRepository.createBatch(userId, roleIds, operator);
+        int result = userRoleRepository.createBatch(userId, roleIds, operator);
+        // 该用户的角色码、权限码已变化
+        authCacheManager.evictUser(userId);
+        return result;
     }
 
     /**
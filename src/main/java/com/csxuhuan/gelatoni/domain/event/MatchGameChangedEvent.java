@@ -0,0 +1,61 @@
+package com.csxuhuan.gelatoni.domain.event;
+
+import com.csxuhuan.gelatoni.domain.model.common.GameDay;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 比赛数据变更事件
+ *
+ * <p>比赛新增、修改、删除时由领域服务在事务内发布，携带受影响的赛季和游戏日期，
+ * 供缓存等组件只清除受影响的数据。修改比赛时如果赛季或日期发生变化，
+ * 新旧两组值各发布一次。
+ *
+ * <p>游戏日期规则见 {@link GameDay}。
+ *
+ * @author Gelatoni
+ */
+public class MatchGameChangedEvent {
+
+    /** 赛季标识，可能为空 */
+    private final String season;
+
+    /** 游戏日期，比赛时间为空或不属于任何游戏日时为空（只影响不按日期筛选的数据） */
+    private final LocalDate gameDate;
+
+    public MatchGameChangedEvent(String season, LocalDate gameDate) {
+        this.season = season;
+        this.gameDate = gameDate;
+    }
+
+    /**
+     * 根据比赛的赛季和比赛时间创建事件
+     *
+     * @param season 赛季标识
+     * @param matchTime 比赛时间
+     * @return 比赛数据变更事件
+     */
+    public static MatchGameChangedEvent of(String season, LocalDateTime matchTime) {
+        return new MatchGameChangedEvent(season, GameDay.of(matchTime));
+    }
+
+    /**
+     * 是否与另一个事件影响相同的赛季和游戏日期
+     *
+     * @param other 另一个事件
+     * @return true 如果赛季和游戏日期都相同
+     */
+    public boolean sameScope(MatchGameChangedEvent other) {
+        return Objects.equals(season, other.season) && Objects.equals(gameDate, other.gameDate);
+    }
+
+    public String getSeason() {
+        return season;
+    }
+
+    public LocalDate getGameDate() {
+        return gameDate;
+    }
+}
@@ -0,0 +1,26 @@
+package com.csxuhuan.gelatoni.domain.event;
+
+/**
+ * 角色权限变更事件
+ *
+ * <p>角色分配权限、角色或权限变更后发布（包括其他实例通过失效通知转发的变更），
+ * 供缓存了角色权限的组件（如匿名角色权限）重新加载。
+ *
+ * @author csxuhuan
+ */
+public class PermissionChangedEvent {
+
+    private static final PermissionChangedEvent INSTANCE = new PermissionChangedEvent();
+
+    private PermissionChangedEvent() {
+    }
+
+    /**
+     * 获取事件实例（事件不携带数据）
+     *
+     * @return 角色权限变更事件
+     */
+    public static PermissionChangedEvent instance() {
+        return INSTANCE;
+    }
+}
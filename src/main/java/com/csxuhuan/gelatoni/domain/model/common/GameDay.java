@@ -0,0 +1,87 @@
+package com.csxuhuan.gelatoni.domain.model.common;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 游戏日规则
+ *
+ * <p>游戏日 D 的比赛时间范围为 D 8:00 至 D+1 2:00（均包含）。
+ * 比赛时间在 2:00 之后、8:00 之前的比赛不属于任何游戏日，按日期筛选时不会出现，
+ * 只在不按日期筛选（全部日期）时参与统计。
+ *
+ * <p>统计明细按日期筛选、按日汇总分组、比赛变更事件都使用这里的规则，
+ * SQL 中的等价写法见 docs/sql/match_player_stats_daily.sql。
+ *
+ * <p>趋势按 {@link #bucketOf(LocalDateTime)} 归入日期：8:00 之前的比赛都算前一天，每场比赛都有日期，不会被丢弃。
+ *
+ * @author Gelatoni
+ */
+public final class GameDay {
+
+    /** 游戏日开始时间（当天，包含） */
+    public static final LocalTime START_TIME = LocalTime.of(8, 0);
+
+    /** 游戏日结束时间（次日，包含） */
+    public static final LocalTime END_TIME = LocalTime.of(2, 0);
+
+    private GameDay() {
+    }
+
+    /**
+     * 计算比赛时间所属的游戏日期
+     *
+     * @param matchTime 比赛时间
+     * @return 游戏日期；比赛时间为空或不属于任何游戏日时返回 null
+     */
+    public static LocalDate of(LocalDateTime matchTime) {
+        if (matchTime == null) {
+            return null;
+        }
+        LocalTime time = matchTime.toLocalTime();
+        if (!time.isBefore(START_TIME)) {
+            return matchTime.toLocalDate();
+        }
+        if (!time.isAfter(END_TIME)) {
+            return matchTime.toLocalDate().minusDays(1);
+        }
+        return null;
+    }
+
+    /**
+     * 计算比赛时间在趋势中的归属日期
+     *
+     * <p>8:00 之前（含 2:00 之后、8:00 之前）的比赛算前一天，其余算当天。
+     *
+     * @param matchTime 比赛时间
+     * @return 归属日期；比赛时间为空时返回 null
+     */
+    public static LocalDate bucketOf(LocalDateTime matchTime) {
+        if (matchTime == null) {
+            return null;
+        }
+        LocalDate date = matchTime.toLocalDate();
+        return matchTime.toLocalTime().isBefore(START_TIME) ? date.minusDays(1) : date;
+    }
+
+    /**
+     * 游戏日的开始时间
+     *
+     * @param gameDate 游戏日期
+     * @return 当天 8:00
+     */
+    public static LocalDateTime startOf(LocalDate gameDate) {
+        return LocalDateTime.of(gameDate, START_TIME);
+    }
+
+    /**
+     * 游戏日的结束时间
+     *
+     * @param gameDate 游戏日期
+     * @return 次日 2:00
+     */
+    public static LocalDateTime endOf(LocalDate gameDate) {
+        return LocalDateTime.of(gameDate.plusDays(1), END_TIME);
+    }
+}
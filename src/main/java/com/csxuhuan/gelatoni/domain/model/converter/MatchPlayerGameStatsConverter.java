@@ -0,0 +1,49 @@
+package com.csxuhuan.gelatoni.domain.model.converter;
+
+import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerGameStats;
+import com.csxuhuan.gelatoni.infrastructure.repository.entity.MatchPlayerGameStatsDO;
+
+/**
+ * MatchPlayerGameStats 领域对象转换器
+ *
+ * <p>负责将关联查询的投影结果转换为领域实体（只读，不提供反向转换）。
+ *
+ * @author Gelatoni
+ */
+public class MatchPlayerGameStatsConverter {
+
+    /**
+     * 私有构造函数，工具类不允许实例化
+     */
+    private MatchPlayerGameStatsConverter() {
+    }
+
+    /**
+     * 将查询结果对象转换为领域实体
+     *
+     * @param statsDO 查询结果对象
+     * @return 领域实体，如果输入为 null 则返回 null
+     */
+    public static MatchPlayerGameStats toDomain(MatchPlayerGameStatsDO statsDO) {
+        if (statsDO == null) {
+            return null;
+        }
+
+        return new MatchPlayerGameStats(
+                statsDO.getMatchId(),
+                statsDO.getTeamType(),
+                statsDO.getUserName(),
+                statsDO.getPlayerName(),
+                statsDO.getRating(),
+                statsDO.getScore(),
+                statsDO.getRebound(),
+                statsDO.getAssist(),
+                statsDO.getSteal(),
+                statsDO.getBlock(),
+                statsDO.getMatchTime(),
+                statsDO.getResult(),
+                statsDO.getMyScore(),
+                statsDO.getOppScore()
+        );
+    }
+}
@@ -0,0 +1,91 @@
+package com.csxuhuan.gelatoni.domain.model.converter;
+
+import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerStatsSummary;
+import com.csxuhuan.gelatoni.infrastructure.repository.entity.MatchPlayerStatsDailyDO;
+
+/**
+ * MatchPlayerStatsSummary 领域对象转换器
+ *
+ * <p>负责领域层与基础设施层之间的对象转换：
+ * <ul>
+ *     <li>DO → Domain：将汇总表数据库对象转换为领域实体</li>
+ *     <li>Domain → DO：将领域实体（汇总行或增量）转换为数据库对象</li>
+ * </ul>
+ *
+ * @author Gelatoni
+ */
+public class MatchPlayerStatsSummaryConverter {
+
+    /**
+     * 私有构造函数，工具类不允许实例化
+     */
+    private MatchPlayerStatsSummaryConverter() {
+    }
+
+    /**
+     * 将数据库对象转换为领域实体
+     *
+     * @param summaryDO 数据库对象
+     * @return 领域实体，如果输入为 null 则返回 null
+     */
+    public static MatchPlayerStatsSummary toDomain(MatchPlayerStatsDailyDO summaryDO) {
+        if (summaryDO == null) {
+            return null;
+        }
+
+        return new MatchPlayerStatsSummary(
+                summaryDO.getSeason(),
+                summaryDO.getGameDate(),
+                summaryDO.getIsRobot(),
+                summaryDO.getUserName(),
+                summaryDO.getPlayerName(),
+                summaryDO.getAppearances(),
+                summaryDO.getScore(),
+                summaryDO.getRebound(),
+                summaryDO.getAssist(),
+                summaryDO.getSteal(),
+                summaryDO.getBlock(),
+                summaryDO.getTurnover(),
+                summaryDO.getFgAttempt(),
+                summaryDO.getFgMade(),
+                summaryDO.getThreeAttempt(),
+                summaryDO.getThreeMade(),
+                summaryDO.getMvpCount(),
+                summaryDO.getSvpCount(),
+                summaryDO.getRatingSum()
+        );
+    }
+
+    /**
+     * 将领域实体转换为数据库对象
+     *
+     * @param summary 领域实体
+     * @return 数据库对象，如果输入为 null 则返回 null
+     */
+    public static MatchPlayerStatsDailyDO toDO(MatchPlayerStatsSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        MatchPlayerStatsDailyDO summaryDO = new MatchPlayerStatsDailyDO();
+        summaryDO.setSeason(summary.getSeason());
+        summaryDO.setGameDate(summary.getGameDate());
+        summaryDO.setIsRobot(summary.getIsRobot());
+        summaryDO.setUserName(summary.getUserName());
+        summaryDO.setPlayerName(summary.getPlayerName());
+        summaryDO.setAppearances(summary.getAppearances());
+        summaryDO.setScore(summary.getScore());
+        summaryDO.setRebound(summary.getRebound());
+        summaryDO.setAssist(summary.getAssist());
+        summaryDO.setSteal(summary.getSteal());
+        summaryDO.setBlock(summary.getBlock());
+        summaryDO.setTurnover(summary.getTurnover());
+        summaryDO.setFgAttempt(summary.getFgAttempt());
+        summaryDO.setFgMade(summary.getFgMade());
+        summaryDO.setThreeAttempt(summary.getThreeAttempt());
+        summaryDO.setThreeMade(summary.getThreeMade());
+        summaryDO.setMvpCount(summary.getMvpCount());
+        summaryDO.setSvpCount(summary.getSvpCount());
+        summaryDO.setRatingSum(summary.getRatingSum());
+        return summaryDO;
+    }
+}
@@ -0,0 +1,58 @@
+package com.csxuhuan.gelatoni.domain.model.entity;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 比赛基础数据
+ *
+ * <p>页面筛选项使用的去重数据：赛季、我方/对方球员名称、我方用户昵称、各赛季的比赛日期。
+ *
+ * @author Gelatoni
+ */
+public class MatchGameBaseData {
+
+    /** 赛季列表，按赛季数字倒序 */
+    private final List<String> seasons;
+
+    /** 我方球员名称，升序 */
+    private final List<String> myPlayerNames;
+
+    /** 对方球员名称，升序 */
+    private final List<String> opponentPlayerNames;
+
+    /** 我方用户昵称，升序 */
+    private final List<String> myUserNames;
+
+    /** 赛季 → 比赛日期（倒序），赛季按数字倒序 */
+    private final Map<String, List<String>> matchDatesBySeason;
+
+    public MatchGameBaseData(List<String> seasons, List<String> myPlayerNames, List<String> opponentPlayerNames,
+                             List<String> myUserNames, Map<String, List<String>> matchDatesBySeason) {
+        this.seasons = seasons;
+        this.myPlayerNames = myPlayerNames;
+        this.opponentPlayerNames = opponentPlayerNames;
+        this.myUserNames = myUserNames;
+        this.matchDatesBySeason = matchDatesBySeason;
+    }
+
+    public List<String> getSeasons() {
+        return seasons;
+    }
+
+    public List<String> getMyPlayerNames() {
+        return myPlayerNames;
+    }
+
+    public List<String> getOpponentPlayerNames() {
+        return opponentPlayerNames;
+    }
+
+    public List<String> getMyUserNames() {
+        return myUserNames;
+    }
+
+    public Map<String, List<String>> getMatchDatesBySeason() {
+        return matchDatesBySeason;
+    }
+}
@@ -0,0 +1,143 @@
+package com.csxuhuan.gelatoni.domain.model.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 球员比赛数据（含比赛信息）领域实体
+ *
+ * <p>一条球员统计数据连同其所属比赛的时间、结果和比分，
+ * 由球员统计表与比赛表关联查询一次得到，用于趋势分析、对手统计等需要按比赛汇总的场景，
+ * 避免再逐条按比赛ID查询比赛信息。
+ *
+ * <p>业务属性：
+ * <ul>
+ *     <li>matchId/teamType/userName/playerName - 球员信息</li>
+ *     <li>rating/score/rebound/assist/steal/block - 统计数据</li>
+ *     <li>matchTime/result/myScore/oppScore - 比赛信息</li>
+ * </ul>
+ *
+ * <p>设计说明：
+ * 采用不可变对象模式，所有字段为 final，保证线程安全和数据一致性。
+ *
+ * @author Gelatoni
+ */
+public class MatchPlayerGameStats {
+
+    /** 关联比赛ID */
+    private final Long matchId;
+
+    /** 队伍类型：1=我方，2=对方 */
+    private final Integer teamType;
+
+    /** 使用人昵称 */
+    private final String userName;
+
+    /** 使用球员名称 */
+    private final String playerName;
+
+    /** 比赛评分 */
+    private final Double rating;
+
+    /** 得分 */
+    private final Integer score;
+
+    /** 篮板 */
+    private final Integer rebound;
+
+    /** 助攻 */
+    private final Integer assist;
+
+    /** 抢断 */
+    private final Integer steal;
+
+    /** 盖帽 */
+    private final Integer block;
+
+    /** 比赛时间 */
+    private final LocalDateTime matchTime;
+
+    /** 比赛结果：true=胜 */
+    private final Boolean result;
+
+    /** 我方得分 */
+    private final Integer myScore;
+
+    /** 对方得分 */
+    private final Integer oppScore;
+
+    public MatchPlayerGameStats(Long matchId, Integer teamType, String userName, String playerName,
+                                Double rating, Integer score, Integer rebound, Integer assist,
+                                Integer steal, Integer block, LocalDateTime matchTime, Boolean result,
+                                Integer myScore, Integer oppScore) {
+        this.matchId = matchId;
+        this.teamType = teamType;
+        this.userName = userName;
+        this.playerName = playerName;
+        this.rating = rating;
+        this.score = score;
+        this.rebound = rebound;
+        this.assist = assist;
+        this.steal = steal;
+        this.block = block;
+        this.matchTime = matchTime;
+        this.result = result;
+        this.myScore = myScore;
+        this.oppScore = oppScore;
+    }
+
+    public Long getMatchId() {
+        return matchId;
+    }
+
+    public Integer getTeamType() {
+        return teamType;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public Double getRating() {
+        return rating;
+    }
+
+    public Integer getScore() {
+        return score;
+    }
+
+    public Integer getRebound() {
+        return rebound;
+    }
+
+    public Integer getAssist() {
+        return assist;
+    }
+
+    public Integer getSteal() {
+        return steal;
+    }
+
+    public Integer getBlock() {
+        return block;
+    }
+
+    public LocalDateTime getMatchTime() {
+        return matchTime;
+    }
+
+    public Boolean getResult() {
+        return result;
+    }
+
+    public Integer getMyScore() {
+        return myScore;
+    }
+
+    public Integer getOppScore() {
+        return oppScore;
+    }
+}
@@ -0,0 +1,197 @@
+package com.csxuhuan.gelatoni.domain.model.entity;
+
+import com.csxuhuan.gelatoni.domain.model.common.GameDay;
+
+import java.time.LocalDate;
+
+/**
+ * 我方球员按日汇总统计领域实体
+ *
+ * <p>按（赛季、游戏日期、是否机器人、使用人、球员）维度预先累加的我方球员数据，
+ * 由比赛的新增/修改/删除在同一事务内增量维护，统计榜单直接基于汇总行计算，
+ * 不再每次读取全部球员明细。
+ *
+ * <p>业务属性：
+ * <ul>
+ *     <li>season/gameDate/isRobot - 汇总维度（游戏日期规则见 {@link GameDay}，
+ *     比赛时间为空或不属于任何游戏日的比赛记在 {@link #UNDATED_GAME_DATE} 下）</li>
+ *     <li>userName/playerName - 使用人和球员（空值统一存为空字符串）</li>
+ *     <li>appearances - 上场次数</li>
+ *     <li>score/rebound/assist/steal/block/turnover - 基础统计数据累计值</li>
+ *     <li>fgAttempt/fgMade/threeAttempt/threeMade - 投篮数据累计值</li>
+ *     <li>mvpCount/svpCount/ratingSum - 荣誉次数和评分累计值</li>
+ * </ul>
+ *
+ * <p>设计说明：
+ * 采用不可变对象模式，同一个对象既可以表示一行汇总数据，也可以表示一次增量（各字段可为负数）。
+ *
+ * @author Gelatoni
+ */
+public class MatchPlayerStatsSummary {
+
+    /**
+     * 无游戏日期的汇总行使用的日期
+     *
+     * <p>这些行只在不按日期筛选时参与统计，保证赛季、全部数据与明细统计一致。
+     */
+    public static final LocalDate UNDATED_GAME_DATE = LocalDate.of(1970, 1, 1);
+
+    /** 赛季 */
+    private final String season;
+
+    /** 游戏日期 */
+    private final LocalDate gameDate;
+
+    /** 是否机器人比赛 */
+    private final Boolean isRobot;
+
+    /** 使用人昵称 */
+    private final String userName;
+
+    /** 使用球员名称 */
+    private final String playerName;
+
+    /** 上场次数 */
+    private final Integer appearances;
+
+    /** 得分 */
+    private final Integer score;
+
+    /** 篮板 */
+    private final Integer rebound;
+
+    /** 助攻 */
+    private final Integer assist;
+
+    /** 抢断 */
+    private final Integer steal;
+
+    /** 盖帽 */
+    private final Integer block;
+
+    /** 失误 */
+    private final Integer turnover;
+
+    /** 投篮尝试数 */
+    private final Integer fgAttempt;
+
+    /** 投篮命中数 */
+    private final Integer fgMade;
+
+    /** 三分尝试数 */
+    private final Integer threeAttempt;
+
+    /** 三分命中数 */
+    private final Integer threeMade;
+
+    /** MVP次数 */
+    private final Integer mvpCount;
+
+    /** SVP次数 */
+    private final Integer svpCount;
+
+    /** 评分累计值 */
+    private final Double ratingSum;
+
+    public MatchPlayerStatsSummary(String season, LocalDate gameDate, Boolean isRobot, String userName,
+                                   String playerName, Integer appearances, Integer score, Integer rebound,
+                                   Integer assist, Integer steal, Integer block, Integer turnover,
+                                   Integer fgAttempt, Integer fgMade, Integer threeAttempt, Integer threeMade,
+                                   Integer mvpCount, Integer svpCount, Double ratingSum) {
+        this.season = season;
+        this.gameDate = gameDate;
+        this.isRobot = isRobot;
+        this.userName = userName;
+        this.playerName = playerName;
+        this.appearances = appearances;
+        this.score = score;
+        this.rebound = rebound;
+        this.assist = assist;
+        this.steal = steal;
+        this.block = block;
+        this.turnover = turnover;
+        this.fgAttempt = fgAttempt;
+        this.fgMade = fgMade;
+        this.threeAttempt = threeAttempt;
+        this.threeMade = threeMade;
+        this.mvpCount = mvpCount;
+        this.svpCount = svpCount;
+        this.ratingSum = ratingSum;
+    }
+
+    public String getSeason() {
+        return season;
+    }
+
+    public LocalDate getGameDate() {
+        return gameDate;
+    }
+
+    public Boolean getIsRobot() {
+        return isRobot;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public Integer getAppearances() {
+        return appearances;
+    }
+
+    public Integer getScore() {
+        return score;
+    }
+
+    public Integer getRebound() {
+        return rebound;
+    }
+
+    public Integer getAssist() {
+        return assist;
+    }
+
+    public Integer getSteal() {
+        return steal;
+    }
+
+    public Integer getBlock() {
+        return block;
+    }
+
+    public Integer getTurnover() {
+        return turnover;
+    }
+
+    public Integer getFgAttempt() {
+        return fgAttempt;
+    }
+
+    public Integer getFgMade() {
+        return fgMade;
+    }
+
+    public Integer getThreeAttempt() {
+        return threeAttempt;
+    }
+
+    public Integer getThreeMade() {
+        return threeMade;
+    }
+
+    public Integer getMvpCount() {
+        return mvpCount;
+    }
+
+    public Integer getSvpCount() {
+        return svpCount;
+    }
+
+    public Double getRatingSum() {
+        return ratingSum;
+    }
+}
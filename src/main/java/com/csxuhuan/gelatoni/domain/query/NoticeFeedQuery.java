@@ -0,0 +1,68 @@
+package com.csxuhuan.gelatoni.domain.query;
+
+import java.time.LocalDateTime;
+
+/**
+ * 公告流查询条件（领域对象）
+ *
+ * <p>
+ * 表达「从某条公告之后继续往下读取公告」这一领域意图，按创建时间倒序、ID 倒序排列。
+ * 游标为空表示从最新的公告开始。
+ * </p>
+ */
+public class NoticeFeedQuery {
+
+    /**
+     * 游标公告的创建时间
+     */
+    private final LocalDateTime cursorCreateTime;
+
+    /**
+     * 游标公告的ID
+     */
+    private final Long cursorId;
+
+    /**
+     * 每页大小
+     */
+    private final int pageSize;
+
+    /**
+     * 是否需要统计总数
+     */
+    private final boolean withTotal;
+
+    /**
+     * 构造一个公告流查询条件
+     *
+     * @param cursorCreateTime 游标公告的创建时间，可为空
+     * @param cursorId 游标公告的ID，可为空
+     * @param pageSize 每页大小
+     * @param withTotal 是否需要统计总数
+     */
+    public NoticeFeedQuery(LocalDateTime cursorCreateTime, Long cursorId, int pageSize, boolean withTotal) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than 0");
+        }
+        this.cursorCreateTime = cursorCreateTime;
+        this.cursorId = cursorId;
+        this.pageSize = pageSize;
+        this.withTotal = withTotal;
+    }
+
+    public LocalDateTime getCursorCreateTime() {
+        return cursorCreateTime;
+    }
+
+    public Long getCursorId() {
+        return cursorId;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public boolean isWithTotal() {
+        return withTotal;
+    }
+}
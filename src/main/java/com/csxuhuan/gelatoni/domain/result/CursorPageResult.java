@@ -0,0 +1,44 @@
+package com.csxuhuan.gelatoni.domain.result;
+
+import java.util.List;
+
+/**
+ * 领域层游标分页结果
+ *
+ * @param <T> 领域实体类型
+ */
+public class CursorPageResult<T> {
+
+    /**
+     * 当前页数据
+     */
+    private final List<T> records;
+
+    /**
+     * 是否还有下一页
+     */
+    private final boolean hasMore;
+
+    /**
+     * 总记录数，未统计时为空
+     */
+    private final Long total;
+
+    public CursorPageResult(List<T> records, boolean hasMore, Long total) {
+        this.records = records;
+        this.hasMore = hasMore;
+        this.total = total;
+    }
+
+    public List<T> getRecords() {
+        return records;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+}
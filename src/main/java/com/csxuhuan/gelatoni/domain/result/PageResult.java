@@ -1,7 +1,5 @@
 package com.csxuhuan.gelatoni.domain.result;
 
-import com.csxuhuan.gelatoni.domain.model.entity.Notice;
-
 import java.util.List;
 
 /**
@@ -45,9 +43,10 @@ public class PageResult<T> {
      * @param current 当前页码
      * @param size 每页大小
      * @param total 总记录数
+     * @param <T> 领域实体类型
      * @return 领域层分页结果
      */
-    public static PageResult<Notice> of(List<Notice> records, long current, long size, long total) {
+    public static <T> PageResult<T> of(List<T> records, long current, long size, long total) {
         return new PageResult<>(records, (int) current, (int) size, total);
     }
 
@@ -6,6 +6,7 @@ import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerStats;
 import com.csxuhuan.gelatoni.domain.query.MatchGameCreateQuery;
 import com.csxuhuan.gelatoni.domain.query.MatchGameUpdateQuery;
 import com.csxuhuan.gelatoni.domain.query.MatchGamePageQuery;
+import com.csxuhuan.gelatoni.domain.result.PageResult;
 
 import java.util.List;
 
@@ -68,9 +69,10 @@ public interface MatchGameDomainService {
      * 分页查询比赛列表
      *
      * @param query 分页查询对象
-     * @return 比赛列表
+     * @param knownTotal 已知的总数（可选），不为空时不再查询总数，直接作为结果的总数
+     * @return 比赛分页结果（含总数）
      */
-    List<MatchGame> getMatchGamePage(MatchGamePageQuery query);
+    PageResult<MatchGame> getMatchGamePage(MatchGamePageQuery query, Long knownTotal);
 
     /**
      * 获取比赛总数
@@ -2,7 +2,9 @@ package com.csxuhuan.gelatoni.domain.service;
 
 import com.csxuhuan.gelatoni.domain.model.entity.Notice;
 import com.csxuhuan.gelatoni.domain.query.NoticeCreateQuery;
+import com.csxuhuan.gelatoni.domain.query.NoticeFeedQuery;
 import com.csxuhuan.gelatoni.domain.query.NoticePageQuery;
+import com.csxuhuan.gelatoni.domain.result.CursorPageResult;
 import com.csxuhuan.gelatoni.domain.result.PageResult;
 
 /**
@@ -33,6 +35,16 @@ public interface NoticeDomainService {
      */
     PageResult<Notice> pageQuery(NoticePageQuery query);
 
+    /**
+     * 按游标查询公告流
+     *
+     * <p>查询所有未删除的公告，按创建时间倒序、ID 倒序排列，从游标之后开始读取。
+     *
+     * @param query 公告流查询条件
+     * @return 游标分页结果
+     */
+    CursorPageResult<Notice> feedQuery(NoticeFeedQuery query);
+
     /**
      * 创建公告
      *
@@ -1,26 +1,41 @@
 package com.csxuhuan.gelatoni.domain.service.impl;
 
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.csxuhuan.gelatoni.domain.event.MatchGameChangedEvent;
+import com.csxuhuan.gelatoni.domain.model.common.GameDay;
 import com.csxuhuan.gelatoni.domain.model.entity.MatchGame;
 import com.csxuhuan.gelatoni.domain.model.entity.MatchTeamStats;
 import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerStats;
+import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerStatsSummary;
 import com.csxuhuan.gelatoni.domain.query.MatchGameCreateQuery;
 import com.csxuhuan.gelatoni.domain.query.MatchGameUpdateQuery;
 import com.csxuhuan.gelatoni.domain.query.PageQuery;
 import com.csxuhuan.gelatoni.domain.query.MatchGamePageQuery;
+import com.csxuhuan.gelatoni.domain.result.PageResult;
 import com.csxuhuan.gelatoni.domain.service.MatchGameDomainService;
 import com.csxuhuan.gelatoni.infrastructure.repository.MatchGameRepository;
 import com.csxuhuan.gelatoni.infrastructure.repository.MatchTeamStatsRepository;
 import com.csxuhuan.gelatoni.infrastructure.repository.MatchPlayerStatsRepository;
+import com.csxuhuan.gelatoni.infrastructure.repository.MatchPlayerStatsSummaryRepository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 比赛领域服务实现类
  *
+ * <p>比赛新增、修改、删除时在事务内发布 {@link MatchGameChangedEvent}，
+ * 监听方（缓存）在事务提交后处理。
+ *
+ * <p>统计榜单数据来源为 summary（match.stats.source）时，在同一事务内增量维护按日汇总表；
+ * 其他来源不读写汇总表，未执行 docs/sql/match_player_stats_daily.sql 的环境也能正常增删改比赛。
+ *
  * @author Gelatoni
  */
 @Service
@@ -29,13 +44,23 @@ public class MatchGameDomainServiceImpl implements MatchGameDomainService {
     private final MatchGameRepository matchGameRepository;
     private final MatchTeamStatsRepository matchTeamStatsRepository;
     private final MatchPlayerStatsRepository matchPlayerStatsRepository;
+    private final MatchPlayerStatsSummaryRepository matchPlayerStatsSummaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 统计榜单数据来源，为 summary 时维护按日汇总表 */
+    @Value("${match.stats.source:detail}")
+    private String statsSource;
 
     public MatchGameDomainServiceImpl(MatchGameRepository matchGameRepository,
                                       MatchTeamStatsRepository matchTeamStatsRepository,
-                                      MatchPlayerStatsRepository matchPlayerStatsRepository) {
+                                      MatchPlayerStatsRepository matchPlayerStatsRepository,
+                                      MatchPlayerStatsSummaryRepository matchPlayerStatsSummaryRepository,
+                                      ApplicationEventPublisher eventPublisher) {
         this.matchGameRepository = matchGameRepository;
         this.matchTeamStatsRepository = matchTeamStatsRepository;
         this.matchPlayerStatsRepository = matchPlayerStatsRepository;
+        this.matchPlayerStatsSummaryRepository = matchPlayerStatsSummaryRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -100,8 +125,12 @@ public class MatchGameDomainServiceImpl implements MatchGameDomainService {
             if (playerStatsResult != updatedPlayerStatsList.size()) {
                 throw new RuntimeException("创建比赛球员统计数据失败");
             }
+
+            // 累加我方球员汇总数据
+            applySummary(matchGame, updatedPlayerStatsList, 1);
         }
 
+        eventPublisher.publishEvent(MatchGameChangedEvent.of(matchGame.getSeason(), matchGame.getMatchTime()));
         return matchId;
     }
 
@@ -136,6 +165,15 @@ public class MatchGameDomainServiceImpl implements MatchGameDomainService {
     @Override
     @Transactional
     public boolean updateMatchGame(MatchGameUpdateQuery query) {
+        // 先锁定比赛行再读取修改前的比赛和球员数据（用于冲减汇总数据），
+        // 并发修改同一场比赛时后一个事务等待前一个提交，不会重复冲减同一份旧数据
+        MatchGame oldMatchGame = matchGameRepository.findByIdForUpdate(query.getId());
+        if (oldMatchGame == null) {
+            throw new RuntimeException("更新比赛失败");
+        }
+        List<MatchPlayerStats> oldPlayerStatsList = matchPlayerStatsRepository.findByMatchId(query.getId());
+        List<MatchPlayerStats> newPlayerStatsList = oldPlayerStatsList;
+
         // 更新比赛基础信息
         MatchGame matchGame = query.toMatchGame();
         int result = matchGameRepository.update(matchGame, query.getModifier());
@@ -198,8 +236,23 @@ public class MatchGameDomainServiceImpl implements MatchGameDomainService {
             if (playerStatsResult != updatedPlayerStatsList.size()) {
                 throw new RuntimeException("更新比赛球员统计数据失败");
             }
+            newPlayerStatsList = updatedPlayerStatsList;
         }
 
+        // 比赛的赛季/时间/是否机器人以及球员数据都可能变化，先冲减旧数据再累加新数据
+        MatchGame newMatchGame = matchGameRepository.findById(query.getId());
+        applySummary(oldMatchGame, oldPlayerStatsList, -1);
+        applySummary(newMatchGame, newPlayerStatsList, 1);
+
+        // 赛季或比赛时间可能被修改，新旧两组不同时都需要通知
+        MatchGameChangedEvent oldEvent = MatchGameChangedEvent.of(oldMatchGame.getSeason(), oldMatchGame.getMatchTime());
+        eventPublisher.publishEvent(oldEvent);
+        if (newMatchGame != null) {
+            MatchGameChangedEvent newEvent = MatchGameChangedEvent.of(newMatchGame.getSeason(), newMatchGame.getMatchTime());
+            if (!newEvent.sameScope(oldEvent)) {
+                eventPublisher.publishEvent(newEvent);
+            }
+        }
         return true;
     }
 
@@ -209,6 +262,15 @@ public class MatchGameDomainServiceImpl implements MatchGameDomainService {
     @Override
     @Transactional
     public boolean deleteMatchGame(Long id) {
+        // 锁定比赛行，已删除（或并发删除已先提交）时不做任何处理，避免重复冲减
+        MatchGame matchGame = matchGameRepository.findByIdForUpdate(id);
+        if (matchGame == null) {
+            return false;
+        }
+
+        // 冲减我方球员汇总数据
+        applySummary(matchGame, matchPlayerStatsRepository.findByMatchId(id), -1);
+
         // 删除比赛对应的队伍统计数据
         int teamStatsDeleted = matchTeamStatsRepository.deleteByMatchId(id, -1L); // 使用系统标识作为修改人
 
@@ -218,9 +280,59 @@ public class MatchGameDomainServiceImpl implements MatchGameDomainService {
         // 删除比赛记录
         int gameDeleted = matchGameRepository.delete(id, -1L); // 使用系统标识作为修改人
 
+        eventPublisher.publishEvent(MatchGameChangedEvent.of(matchGame.getSeason(), matchGame.getMatchTime()));
         return gameDeleted > 0;
     }
 
+    /**
+     * 按比赛累加或冲减我方球员汇总数据
+     *
+     * <p>只汇总我方球员（team_type=1）。游戏日期规则见 {@link GameDay}，
+     * 比赛时间为空或不属于任何游戏日的比赛记在 {@link MatchPlayerStatsSummary#UNDATED_GAME_DATE} 下，
+     * 只计入不按日期筛选的统计。
+     *
+     * @param matchGame 比赛信息（提供赛季、比赛时间、是否机器人）
+     * @param playerStatsList 该场比赛的球员数据
+     * @param sign 1=累加，-1=冲减
+     */
+    private void applySummary(MatchGame matchGame, List<MatchPlayerStats> playerStatsList, int sign) {
+        if (!"summary".equals(statsSource)
+                || matchGame == null || playerStatsList == null || playerStatsList.isEmpty()) {
+            return;
+        }
+
+        String season = matchGame.getSeason() == null ? "" : matchGame.getSeason();
+        LocalDate matchGameDate = GameDay.of(matchGame.getMatchTime());
+        LocalDate gameDate = matchGameDate == null ? MatchPlayerStatsSummary.UNDATED_GAME_DATE : matchGameDate;
+        Boolean isRobot = Boolean.TRUE.equals(matchGame.getIsRobot());
+
+        List<MatchPlayerStatsSummary> deltas = playerStatsList.stream()
+                .filter(stat -> Objects.equals(stat.getTeamType(), 1)) // 1=我方
+                .map(stat -> new MatchPlayerStatsSummary(
+                        season, gameDate, isRobot,
+                        normalizeName(stat.getUserName()), normalizeName(stat.getPlayerName()),
+                        sign,
+                        sign * safeInt(stat.getScore()), sign * safeInt(stat.getRebound()),
+                        sign * safeInt(stat.getAssist()), sign * safeInt(stat.getSteal()),
+                        sign * safeInt(stat.getBlock()), sign * safeInt(stat.getTurnover()),
+                        sign * safeInt(stat.getFgAttempt()), sign * safeInt(stat.getFgMade()),
+                        sign * safeInt(stat.getThreeAttempt()), sign * safeInt(stat.getThreeMade()),
+                        Boolean.TRUE.equals(stat.getIsMvp()) ? sign : 0,
+                        Boolean.TRUE.equals(stat.getIsSvp()) ? sign : 0,
+                        stat.getRating() == null ? 0D : sign * stat.getRating()))
+                .collect(java.util.stream.Collectors.toList());
+
+        matchPlayerStatsSummaryRepository.applyDeltas(deltas);
+    }
+
+    private String normalizeName(String name) {
+        return name == null ? "" : name.trim();
+    }
+
+    private int safeInt(Integer value) {
+        return value == null ? 0 : value;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -233,27 +345,12 @@ public class MatchGameDomainServiceImpl implements MatchGameDomainService {
      * {@inheritDoc}
      */
     @Override
-    public List<MatchGame> getMatchGamePage(MatchGamePageQuery query) {
-        // 计算偏移量
-        int offset = (query.getPageNo() - 1) * query.getPageSize();
-        
-        // 如果指定了赛季，则按赛季查询；否则查询所有比赛
-        List<MatchGame> allMatches;
-        if (query.getSeason() != null && !query.getSeason().isEmpty()) {
-            allMatches = matchGameRepository.findBySeason(query.getSeason());
-        } else {
-            allMatches = matchGameRepository.findAll();
-        }
-
-        // 手动分页
-        int startIndex = Math.min(offset, allMatches.size());
-        int endIndex = Math.min(startIndex + query.getPageSize(), allMatches.size());
-
-        if (startIndex >= allMatches.size()) {
-            return java.util.Collections.emptyList();
-        }
-
-        return allMatches.subList(startIndex, endIndex);
+    public PageResult<MatchGame> getMatchGamePage(MatchGamePageQuery query, Long knownTotal) {
+        // 在数据库层分页，只查询当前页数据；已知总数时不再执行 COUNT
+        IPage<MatchGame> page = matchGameRepository.pageMatchGames(
+                query.getSeason(), query.getPageNo(), query.getPageSize(), knownTotal == null);
+        long total = knownTotal != null ? knownTotal : page.getTotal();
+        return PageResult.of(page.getRecords(), page.getCurrent(), page.getSize(), total);
     }
 
     /**
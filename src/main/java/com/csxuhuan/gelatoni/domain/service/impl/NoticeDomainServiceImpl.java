@@ -3,12 +3,16 @@ package com.csxuhuan.gelatoni.domain.service.impl;
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.csxuhuan.gelatoni.domain.model.entity.Notice;
 import com.csxuhuan.gelatoni.domain.query.NoticeCreateQuery;
+import com.csxuhuan.gelatoni.domain.query.NoticeFeedQuery;
 import com.csxuhuan.gelatoni.domain.query.NoticePageQuery;
+import com.csxuhuan.gelatoni.domain.result.CursorPageResult;
 import com.csxuhuan.gelatoni.domain.result.PageResult;
 import com.csxuhuan.gelatoni.domain.service.NoticeDomainService;
 import com.csxuhuan.gelatoni.infrastructure.repository.NoticeRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * 公告领域服务实现
  *
@@ -43,6 +47,26 @@ public class NoticeDomainServiceImpl implements NoticeDomainService {
         return PageResult.of(page.getRecords(), page.getCurrent(), page.getSize(), page.getTotal());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>实现说明：多查一条用于判断是否还有下一页，不再依赖总数；
+     * 只有调用方要求时才执行 COUNT。
+     */
+    @Override
+    public CursorPageResult<Notice> feedQuery(NoticeFeedQuery query) {
+        int pageSize = query.getPageSize();
+        List<Notice> notices = noticeRepository.listNoticesBefore(
+                query.getCursorCreateTime(), query.getCursorId(), pageSize + 1);
+
+        boolean hasMore = notices.size() > pageSize;
+        if (hasMore) {
+            notices = notices.subList(0, pageSize);
+        }
+        Long total = query.isWithTotal() ? noticeRepository.countNotices() : null;
+        return new CursorPageResult<>(notices, hasMore, total);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -8,13 +8,15 @@ import org.springframework.stereotype.Component;
 import org.slf4j.MDC;
 
 import java.time.Duration;
+import java.util.Collection;
 
 /**
  * Redis 操作日志切面
  *
  * <p>统一记录所有 Redis 相关操作的日志，包括：
  * <ul>
- *     <li>Redis 操作类型（GET/SET/DELETE/EXISTS/INCREMENT）</li>
+ *     <li>Redis 操作类型（GET/SET/DELETE/EXISTS/INCREMENT，以及批量的 MGET/MSET/BATCH）</li>
+ *     <li>批量操作只记录数量和首个键，不逐个记录元素</li>
  *     <li>操作的键名</li>
  *     <li>操作参数（如过期时间、增量值等）</li>
  *     <li>操作结果摘要</li>
@@ -29,6 +31,7 @@ import java.time.Duration;
  * REDIS DELETE key=user:123 | result=true | 2ms
  * REDIS EXISTS key=user:123 | result=false | 1ms
  * REDIS INCREMENT key=counter:login | delta=1 | ttl=1h | result=42 | 4ms
+ * REDIS MGET keys=3 [match:stats:a, ...] | hits=2 | 2ms
  * REDIS GET key=user:123 | ERROR: Connection timeout | 1000ms
  * </pre>
  *
@@ -107,6 +110,9 @@ public class RedisLogAspect {
             case "increment":
                 logIncrementOperation(args, result, duration, traceId, spanId);
                 break;
+            case "mget":
+                logMgetOperation(args, result, duration, traceId, spanId);
+                break;
             default:
                 // 其他方法使用通用格式
                 log.info("REDIS {} | args={} | result={} | traceId={} | spanId={} | {}ms", 
@@ -160,7 +166,9 @@ public class RedisLogAspect {
      */
     private void logDeleteOperation(Object[] args, Object result, long duration, String traceId, String spanId) {
         if (args.length >= 1) {
-            String key = String.valueOf(args[0]);
+            String key = args[0] instanceof Collection
+                    ? summarizeKeys((Collection<?>) args[0])
+                    : String.valueOf(args[0]);
             log.info("REDIS DELETE key={} | result={} | traceId={} | spanId={} | {}ms", 
                     key, result, traceId, spanId, duration);
         }
@@ -192,6 +200,34 @@ public class RedisLogAspect {
         }
     }
 
+    /**
+     * 记录 MGET 操作日志：键数量、首个键和命中数量
+     */
+    private void logMgetOperation(Object[] args, Object result, long duration, String traceId, String spanId) {
+        Collection<?> keys = (Collection<?>) args[0];
+        int hits = 0;
+        if (result instanceof Collection) {
+            for (Object value : (Collection<?>) result) {
+                if (value != null) {
+                    hits++;
+                }
+            }
+        }
+        log.info("REDIS MGET keys={} | hits={} | traceId={} | spanId={} | {}ms",
+                summarizeKeys(keys), hits, traceId, spanId, duration);
+    }
+
+    /**
+     * 生成键集合的摘要：数量 + 首个键，如 "3 [match:stats:a, ...]"
+     */
+    private String summarizeKeys(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return "0 []";
+        }
+        Object first = keys.iterator().next();
+        return keys.size() + " [" + first + (keys.size() > 1 ? ", ...]" : "]");
+    }
+
     /**
      * 格式化参数数组为字符串
      *
@@ -1,16 +1,42 @@
 package com.csxuhuan.gelatoni.infrastructure.redis;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.csxuhuan.gelatoni.infrastructure.redis.codec.JsonRedisValueCodec;
+import com.csxuhuan.gelatoni.infrastructure.redis.codec.RedisValueCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 /**
  * Redis客户端工具类
  * 提供常用的Redis操作方法，包括基础的键值操作和计数器功能
+ *
+ * <p>对象值的存储格式：
+ * <ul>
+ *     <li>JSON 且未压缩：直接存 JSON 文本（与旧格式一致）</li>
+ *     <li>其他情况：3 字节头 + 数据，头为 0x00、编解码器ID、压缩标记（0=未压缩，1=Deflate）</li>
+ * </ul>
+ * JSON 文本不会以 0x00 开头，读取时据此区分两种格式，切换编解码器或压缩配置期间新旧数据可以同时读取。
  * 
  * @author csxuhuan
  * @since 1.0.0
@@ -21,16 +47,65 @@ public class RedisClient {
     /** Redis模板实例，用于执行各种Redis操作 */
     private final StringRedisTemplate redisTemplate;
 
-    private final ObjectMapper objectMapper;
+    /** 写入时使用的编解码器 */
+    private final RedisValueCodec writeCodec;
+
+    /** 按编解码器ID索引的全部编解码器，用于读取 */
+    private final RedisValueCodec[] codecsById = new RedisValueCodec[128];
+
+    /** 编码后超过该字节数时压缩，小于 0 表示不压缩 */
+    private final int compressThreshold;
+
+    /** 带头格式的标记字节 */
+    private static final byte FRAME_MARKER = 0;
+
+    /** 带头格式的头部长度 */
+    private static final int FRAME_HEADER_LENGTH = 3;
+
+    /** 压缩标记：未压缩 */
+    private static final byte COMPRESSION_NONE = 0;
+
+    /** 压缩标记：Deflate */
+    private static final byte COMPRESSION_DEFLATE = 1;
+
+    /** 按模式删除时每批 SCAN 的数量，同时也是每条 UNLINK 命令的键数量上限 */
+    private final int scanBatchSize;
+
+    /** 值相等时才删除键的脚本，用于安全释放锁 */
+    private static final DefaultRedisScript<Long> DELETE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
 
     /**
      * 构造函数
      * 
      * @param redisTemplate Redis模板实例
+     * @param codecs 全部编解码器
+     * @param codecName 写入时使用的编解码器名称
+     * @param compressThreshold 编码后超过该字节数时压缩，小于 0 表示不压缩
+     * @param scanBatchSize 按模式删除时每批处理的键数量
      */
-    public RedisClient(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+    public RedisClient(StringRedisTemplate redisTemplate, List<RedisValueCodec> codecs,
+                       @Value("${redis.codec:" + JsonRedisValueCodec.NAME + "}") String codecName,
+                       @Value("${redis.codec.compress-threshold:-1}") int compressThreshold,
+                       @Value("${redis.scan.batch-size:500}") int scanBatchSize) {
         this.redisTemplate = redisTemplate;
-        this.objectMapper = objectMapper;
+        RedisValueCodec selected = null;
+        for (RedisValueCodec codec : codecs) {
+            if (codecsById[codec.id()] != null) {
+                throw new IllegalStateException("Duplicate redis codec id " + codec.id());
+            }
+            codecsById[codec.id()] = codec;
+            if (codec.name().equals(codecName)) {
+                selected = codec;
+            }
+        }
+        if (selected == null) {
+            throw new IllegalStateException("Unknown redis codec '" + codecName + "'");
+        }
+        this.writeCodec = selected;
+        this.compressThreshold = compressThreshold;
+        this.scanBatchSize = scanBatchSize;
     }
 
     /* ---------- 基础 KV 操作 ---------- */
@@ -43,16 +118,17 @@ public class RedisClient {
      * @param ttl 过期时间，null表示永不过期
      */
     public void set(String key, Object value, Duration ttl) {
+        byte[] bytes;
         try {
-            String json = objectMapper.writeValueAsString(value);
-            if (ttl == null) {
-                redisTemplate.opsForValue().set(key, json);
-                return;
-            }
-            redisTemplate.opsForValue().set(key, json, ttl);
-        } catch (JsonProcessingException e) {
+            bytes = encode(value);
+        } catch (IOException e) {
             throw new RuntimeException("Failed to serialize value for key='" + key + "'", e);
         }
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Boolean>) connection -> ttl == null
+                ? connection.stringCommands().set(rawKey, bytes)
+                : connection.stringCommands().set(rawKey, bytes, Expiration.from(ttl),
+                        RedisStringCommands.SetOption.upsert()));
     }
 
     /**
@@ -64,15 +140,126 @@ public class RedisClient {
      * @return 转换后的值，如果键不存在则返回null
      */
     public <T> T get(String key, Class<T> type) {
-        String json = redisTemplate.opsForValue().get(key);
-        if (json == null) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey));
+        if (bytes == null) {
             return null;
         }
 
         try {
-            return objectMapper.readValue(json, type);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to deserialize JSON value for key='" + key + "' to type " + type.getName(), e);
+            return decode(bytes, type);
+        } catch (IOException | DataFormatException e) {
+            throw new RuntimeException("Failed to deserialize value for key='" + key + "' to type " + type.getName(), e);
+        }
+    }
+
+    /**
+     * 批量获取多个键的值（MGET，一次往返）
+     *
+     * @param keys 键列表
+     * @param type 返回值的类型
+     * @param <T> 泛型类型
+     * @return 与 keys 顺序一致的值列表，键不存在的位置为null
+     */
+    public <T> List<T> mget(List<String> keys, Class<T> type) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        byte[][] rawKeys = new byte[keys.size()][];
+        for (int i = 0; i < rawKeys.length; i++) {
+            rawKeys[i] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+        List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(rawKeys));
+
+        List<T> result = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] bytes = values == null ? null : values.get(i);
+            if (bytes == null) {
+                result.add(null);
+                continue;
+            }
+            try {
+                result.add(decode(bytes, type));
+            } catch (IOException | DataFormatException e) {
+                throw new RuntimeException("Failed to deserialize value for key='" + keys.get(i) + "' to type " + type.getName(), e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 编码对象值：JSON 且未压缩时直接返回 JSON 文本，否则加上 3 字节头
+     */
+    private byte[] encode(Object value) throws IOException {
+        byte[] payload = writeCodec.encode(value);
+        boolean compress = compressThreshold >= 0 && payload.length > compressThreshold;
+        if (!compress && JsonRedisValueCodec.NAME.equals(writeCodec.name())) {
+            return payload;
+        }
+        if (compress) {
+            payload = deflate(payload);
+        }
+        byte[] framed = new byte[FRAME_HEADER_LENGTH + payload.length];
+        framed[0] = FRAME_MARKER;
+        framed[1] = writeCodec.id();
+        framed[2] = compress ? COMPRESSION_DEFLATE : COMPRESSION_NONE;
+        System.arraycopy(payload, 0, framed, FRAME_HEADER_LENGTH, payload.length);
+        return framed;
+    }
+
+    /**
+     * 解码对象值：没有头的按 JSON 文本解析，有头的按头部记录的编解码器和压缩方式解析
+     */
+    private <T> T decode(byte[] bytes, Class<T> type) throws IOException, DataFormatException {
+        if (bytes.length == 0 || bytes[0] != FRAME_MARKER) {
+            return codecsById[1].decode(bytes, 0, bytes.length, type);
+        }
+        if (bytes.length < FRAME_HEADER_LENGTH) {
+            throw new IOException("Truncated value header");
+        }
+        RedisValueCodec codec = bytes[1] > 0 ? codecsById[bytes[1]] : null;
+        if (codec == null) {
+            throw new IOException("Unknown redis codec id " + bytes[1]);
+        }
+        if (bytes[2] == COMPRESSION_DEFLATE) {
+            byte[] payload = inflate(bytes, FRAME_HEADER_LENGTH, bytes.length - FRAME_HEADER_LENGTH);
+            return codec.decode(payload, 0, payload.length, type);
+        }
+        return codec.decode(bytes, FRAME_HEADER_LENGTH, bytes.length - FRAME_HEADER_LENGTH, type);
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data, int offset, int length) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, offset, length);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated compressed value");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
         }
     }
 
@@ -86,14 +273,55 @@ public class RedisClient {
         return redisTemplate.delete(key);
     }
 
+    /**
+     * 批量删除键
+     *
+     * @param keys 要删除的键
+     * @return 删除的键数量
+     */
+    public Long delete(Collection<String> keys) {
+        return redisTemplate.delete(keys);
+    }
+
     /**
      * 根据模式删除键
-     * 
+     *
+     * <p>使用 SCAN 游标分批遍历，不会像 KEYS 一样长时间阻塞 Redis；
+     * 每批键用一条 UNLINK 删除，内存由 Redis 后台线程异步回收。
+     * SCAN 期间新写入的键可能不会被删除，已删除的键也可能被重复遍历（UNLINK 不存在的键不计数）。
+     *
      * @param pattern 键模式（支持通配符）
      * @return 删除的键数量
      */
     public Long deleteByPattern(String pattern) {
-        return redisTemplate.delete(redisTemplate.keys(pattern));
+        return redisTemplate.execute((RedisCallback<Long>) connection -> {
+            ScanOptions options = ScanOptions.scanOptions().match(pattern).count(scanBatchSize).build();
+            List<byte[]> batch = new ArrayList<>(scanBatchSize);
+            long deleted = 0;
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() >= scanBatchSize) {
+                        deleted += unlink(connection.keyCommands(), batch);
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                deleted += unlink(connection.keyCommands(), batch);
+            }
+            return deleted;
+        });
+    }
+
+    /**
+     * 用一条 UNLINK 删除一批键
+     *
+     * @return 本批删除的键数量
+     */
+    private static long unlink(RedisKeyCommands keyCommands, List<byte[]> keys) {
+        Long unlinked = keyCommands.unlink(keys.toArray(new byte[0][]));
+        return unlinked == null ? 0 : unlinked;
     }
 
     /**
@@ -106,6 +334,93 @@ public class RedisClient {
         return redisTemplate.hasKey(key);
     }
 
+    /* ---------- 有序集合操作 ---------- */
+
+    /**
+     * 向有序集合中添加成员（已存在时更新分数），并刷新有序集合的过期时间
+     *
+     * @param key 有序集合键
+     * @param member 成员
+     * @param score 分数
+     * @param ttl 有序集合过期时间
+     */
+    public void addToSortedSet(String key, String member, double score, Duration ttl) {
+        redisTemplate.opsForZSet().add(key, member, score);
+        redisTemplate.expire(key, ttl);
+    }
+
+    /**
+     * 获取有序集合的全部成员（ZRANGE 0 -1）
+     *
+     * @param key 有序集合键
+     * @return 成员集合，按分数升序，键不存在时为空集合
+     */
+    public Set<String> sortedSetMembers(String key) {
+        Set<String> members = redisTemplate.opsForZSet().range(key, 0, -1);
+        return members == null ? Collections.emptySet() : members;
+    }
+
+    /**
+     * 移除有序集合中分数不大于 maxScore 的成员（ZREMRANGEBYSCORE key -inf maxScore）
+     *
+     * @param key 有序集合键
+     * @param maxScore 分数上限（包含）
+     * @return 移除的成员数量
+     */
+    public Long removeFromSortedSetByScore(String key, double maxScore) {
+        return redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, maxScore);
+    }
+
+    /**
+     * 从有序集合中移除成员
+     *
+     * @param key 有序集合键
+     * @param members 要移除的成员
+     */
+    public void removeFromSortedSet(String key, Collection<String> members) {
+        if (!members.isEmpty()) {
+            redisTemplate.opsForZSet().remove(key, members.toArray());
+        }
+    }
+
+    /* ---------- 锁操作 ---------- */
+
+    /**
+     * 键不存在时设置值并指定过期时间（SET NX PX）
+     *
+     * @param key 键
+     * @param value 值
+     * @param ttl 过期时间
+     * @return true表示设置成功，false表示键已存在
+     */
+    public boolean setIfAbsent(String key, String value, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, ttl));
+    }
+
+    /**
+     * 键的当前值等于指定值时才删除，避免误删其他持有者的锁
+     *
+     * @param key 键
+     * @param value 期望的值
+     * @return true表示删除成功
+     */
+    public boolean deleteIfEquals(String key, String value) {
+        Long deleted = redisTemplate.execute(DELETE_IF_EQUALS_SCRIPT, Collections.singletonList(key), value);
+        return deleted != null && deleted > 0;
+    }
+
+    /* ---------- 发布 / 订阅 ---------- */
+
+    /**
+     * 向指定频道发布消息
+     *
+     * @param channel 频道名称
+     * @param message 消息内容
+     */
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
     /* ---------- 计数 / 状态类操作 ---------- */
 
     /**
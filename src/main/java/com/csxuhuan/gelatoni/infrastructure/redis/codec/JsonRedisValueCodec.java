@@ -0,0 +1,47 @@
+package com.csxuhuan.gelatoni.infrastructure.redis.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * JSON 编解码器（默认）
+ *
+ * <p>不压缩时直接以 JSON 文本写入 Redis，与之前的存储格式完全一致。
+ *
+ * @author csxuhuan
+ * @since 1.0.0
+ */
+@Component
+public class JsonRedisValueCodec implements RedisValueCodec {
+
+    /** 编解码器名称 */
+    public static final String NAME = "json";
+
+    private final ObjectMapper objectMapper;
+
+    public JsonRedisValueCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte id() {
+        return 1;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, int offset, int length, Class<T> type) throws IOException {
+        return objectMapper.readValue(bytes, offset, length, type);
+    }
+}
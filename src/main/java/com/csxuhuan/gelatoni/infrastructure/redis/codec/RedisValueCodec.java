@@ -0,0 +1,53 @@
+package com.csxuhuan.gelatoni.infrastructure.redis.codec;
+
+import java.io.IOException;
+
+/**
+ * Redis 缓存值编解码器
+ *
+ * <p>{@link com.csxuhuan.gelatoni.infrastructure.redis.RedisClient} 通过配置项 redis.codec 选择写入时使用的编解码器；
+ * 读取时根据值头部记录的编解码器ID选择解码器，因此切换编解码器期间新旧格式可以同时存在。
+ *
+ * <p>新增实现只需注册为 Spring Bean，并保证 {@link #id()} 与 {@link #name()} 唯一。
+ *
+ * @author csxuhuan
+ * @since 1.0.0
+ */
+public interface RedisValueCodec {
+
+    /**
+     * 编解码器ID，写入值头部，用于读取时识别格式
+     *
+     * @return 编解码器ID，取值 1~127
+     */
+    byte id();
+
+    /**
+     * 编解码器名称，对应配置项 redis.codec
+     *
+     * @return 编解码器名称
+     */
+    String name();
+
+    /**
+     * 将对象编码为字节数组
+     *
+     * @param value 对象
+     * @return 编码结果
+     * @throws IOException 编码失败
+     */
+    byte[] encode(Object value) throws IOException;
+
+    /**
+     * 将字节数组解码为指定类型的对象
+     *
+     * @param bytes 字节数组
+     * @param offset 数据起始位置
+     * @param length 数据长度
+     * @param type 目标类型
+     * @param <T> 泛型类型
+     * @return 解码结果
+     * @throws IOException 解码失败
+     */
+    <T> T decode(byte[] bytes, int offset, int length, Class<T> type) throws IOException;
+}
@@ -0,0 +1,55 @@
+package com.csxuhuan.gelatoni.infrastructure.redis.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Smile 二进制编解码器
+ *
+ * <p>Smile 是 JSON 的二进制形式，数据模型与 JSON 相同，DTO 无需改动。
+ * 开启字段名和短字符串值的回引用，重复的字段名和 metricDesc 等字符串只写一次。
+ * ObjectMapper 由 Spring Boot 的 Jackson2ObjectMapperBuilder 创建，配置与 JSON 保持一致。
+ *
+ * @author csxuhuan
+ * @since 1.0.0
+ */
+@Component
+public class SmileRedisValueCodec implements RedisValueCodec {
+
+    /** 编解码器名称 */
+    public static final String NAME = "smile";
+
+    private final ObjectMapper objectMapper;
+
+    public SmileRedisValueCodec(Jackson2ObjectMapperBuilder builder) {
+        SmileFactory factory = new SmileFactory();
+        factory.enable(SmileGenerator.Feature.CHECK_SHARED_NAMES);
+        factory.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+        this.objectMapper = builder.factory(factory).build();
+    }
+
+    @Override
+    public byte id() {
+        return 2;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, int offset, int length, Class<T> type) throws IOException {
+        return objectMapper.readValue(bytes, offset, length, type);
+    }
+}
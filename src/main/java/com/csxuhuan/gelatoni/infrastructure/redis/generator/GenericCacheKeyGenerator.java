@@ -62,12 +62,35 @@ public class GenericCacheKeyGenerator {
 
     /**
      * 生成比赛统计缓存键
+     *
+     * <p>version 为缓存代数段（如 v3.1），代数变化后旧键不再被访问；
+     * topN 为空或小于 1 时表示全部排名，对应 "all"，否则为 "top{N}"
      */
-    public String generateMatchStatsKey(String season, Boolean excludeRobot, String matchDate, String dimension) {
-        return generateKey("match", "stats",
+    public String generateMatchStatsKey(String version, String season, Boolean excludeRobot, String matchDate,
+                                        String dimension, Integer topN) {
+        return generateKey("match", "stats", version,
             season == null || season.isEmpty() ? "all" : season,
             excludeRobot == null ? "true" : excludeRobot.toString(),
             matchDate == null || matchDate.isEmpty() ? "all" : matchDate,
-            dimension == null ? "user" : dimension.toLowerCase());
+            dimension == null ? "user" : dimension.toLowerCase(),
+            topN == null || topN < 1 ? "all" : "top" + topN);
+    }
+
+    /**
+     * 生成对手统计缓存键
+     */
+    public String generateMatchOpponentKey(String version, String season, int minGames) {
+        return generateKey("match", "opponent", version,
+            season == null || season.isEmpty() ? "all" : season,
+            minGames);
+    }
+
+    /**
+     * 生成比赛趋势缓存键
+     */
+    public String generateMatchTrendKey(String version, String season, Boolean excludeRobot) {
+        return generateKey("match", "trend", version,
+            season == null || season.isEmpty() ? "all" : season,
+            Boolean.TRUE.equals(excludeRobot) ? "true" : "false");
     }
 }
\ No newline at end of file
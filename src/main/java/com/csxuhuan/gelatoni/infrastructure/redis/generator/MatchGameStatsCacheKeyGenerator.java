@@ -1,6 +1,8 @@
 package com.csxuhuan.gelatoni.infrastructure.redis.generator;
 
+import com.csxuhuan.gelatoni.infrastructure.redis.manager.CacheGenerationManager;
 import com.csxuhuan.gelatoni.interfaces.web.request.MatchGameStatsRequest;
+import com.csxuhuan.gelatoni.interfaces.web.request.MatchGameTrendRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -8,7 +10,15 @@ import org.springframework.util.StringUtils;
  * 比赛统计数据缓存键生成器
  * 
  * <p>基于通用缓存键生成器，专门为比赛统计提供缓存键生成功能
- * 缓存键格式：match:stats:{season}:{excludeRobot}:{dimension}
+ * 缓存键格式：match:stats:{version}:{season}:{excludeRobot}:{matchDate}:{dimension}:{topN}
+ * 趋势缓存键格式：match:trend:{version}:{season}:{excludeRobot}
+ * 对手统计缓存键格式：match:opponent:{version}:{season}:{minGames}
+ * 基础数据缓存键格式：match:basedata:{version}
+ * 比赛总数缓存键格式：match:count:{version}:{season}
+ * 赛季索引键格式：match:keys:{season}，有序集合，成员为该赛季下的缓存键，分数为缓存键的过期时间（毫秒时间戳）
+ *
+ * <p>version 为 v{格式版本}.{全局代数}：递增全局代数使全部缓存失效，
+ * 单场比赛变更只清除受影响的键（见赛季索引）；格式版本为 {@link #CACHE_FORMAT_VERSION}，随代码发布，缓存值结构变更后旧格式的键自然不再被访问
  * 
  * @author csxuhuan
  * @since 1.0.0
@@ -16,10 +26,19 @@ import org.springframework.util.StringUtils;
 @Component
 public class MatchGameStatsCacheKeyGenerator {
 
+    /** 全局代数的命名空间 */
+    public static final String GLOBAL_NAMESPACE = "global";
+
+    /** 缓存值格式版本，缓存 DTO 结构发生不兼容变更时递增 */
+    public static final int CACHE_FORMAT_VERSION = 1;
+
     private final GenericCacheKeyGenerator genericGenerator;
+    private final CacheGenerationManager generationManager;
 
-    public MatchGameStatsCacheKeyGenerator(GenericCacheKeyGenerator genericGenerator) {
+    public MatchGameStatsCacheKeyGenerator(GenericCacheKeyGenerator genericGenerator,
+                                           CacheGenerationManager generationManager) {
         this.genericGenerator = genericGenerator;
+        this.generationManager = generationManager;
     }
 
     /**
@@ -30,7 +49,7 @@ public class MatchGameStatsCacheKeyGenerator {
      */
     public String generateKey(MatchGameStatsRequest request) {
         if (request == null) {
-            return genericGenerator.generateMatchStatsKey(null, true, null, "user");
+            return genericGenerator.generateMatchStatsKey(getVersion(), null, true, null, "user", null);
         }
 
         String season = StringUtils.hasText(request.getSeason()) ? request.getSeason() : null;
@@ -38,28 +57,104 @@ public class MatchGameStatsCacheKeyGenerator {
         String matchDate = StringUtils.hasText(request.getMatchDate()) ? request.getMatchDate() : null;
         String dimension = request.getDimension() != null ? request.getDimension().name() : null;
 
-        return genericGenerator.generateMatchStatsKey(season, excludeRobot, matchDate, dimension);
+        return genericGenerator.generateMatchStatsKey(getVersion(), season, excludeRobot, matchDate, dimension,
+                request.getTopN());
     }
 
     /**
-     * 生成清除所有统计缓存的键模式
-     * 用于当数据发生变化时清除相关缓存
-     * 
-     * @return 缓存键模式
+     * 根据趋势请求生成缓存键
+     *
+     * @param request 趋势请求参数
+     * @return 缓存键字符串
      */
-    public String getAllStatsPattern() {
-        return genericGenerator.generatePattern("match", "stats");
+    public String generateTrendKey(MatchGameTrendRequest request) {
+        if (request == null) {
+            return genericGenerator.generateMatchTrendKey(getVersion(), null, null);
+        }
+
+        String season = StringUtils.hasText(request.getSeason()) ? request.getSeason() : null;
+        return genericGenerator.generateMatchTrendKey(getVersion(), season, request.getExcludeRobot());
     }
 
     /**
-     * 根据赛季生成清除缓存的键模式
-     * 用于当特定赛季数据变化时清除相关缓存
-     * 
-     * @param season 赛季标识
-     * @return 缓存键模式
+     * 生成对手统计缓存键
+     *
+     * @param season 赛季（可选）
+     * @param minGames 最少交手场次
+     * @return 缓存键字符串
      */
-    public String getSeasonStatsPattern(String season) {
+    public String generateOpponentKey(String season, int minGames) {
         String seasonParam = StringUtils.hasText(season) ? season : null;
-        return genericGenerator.generatePattern("match", "stats", seasonParam);
+        return genericGenerator.generateMatchOpponentKey(getVersion(), seasonParam, minGames);
+    }
+
+    /**
+     * 生成比赛总数缓存键（比赛列表分页使用）
+     *
+     * @param season 赛季（可选）
+     * @return 缓存键字符串
+     */
+    public String generateCountKey(String season) {
+        String seasonParam = StringUtils.hasText(season) ? season : null;
+        return genericGenerator.generateKey("match", "count", getVersion(),
+                seasonParam == null ? "all" : seasonParam);
+    }
+
+    /**
+     * 生成比赛基础数据缓存键
+     *
+     * @return 缓存键字符串
+     */
+    public String generateBaseDataKey() {
+        return genericGenerator.generateKey("match", "basedata", getVersion());
+    }
+
+    /**
+     * 生成缓存键中的代数段：v{格式版本}.{全局代数}
+     */
+    private String getVersion() {
+        return "v" + CACHE_FORMAT_VERSION + "." + generationManager.getGeneration(GLOBAL_NAMESPACE);
+    }
+
+    /**
+     * 生成赛季索引键
+     *
+     * @param season 赛季（为空表示全赛季）
+     * @return 索引键字符串
+     */
+    public String getSeasonIndexKey(String season) {
+        String seasonParam = StringUtils.hasText(season) ? season : "all";
+        return genericGenerator.generateKey("match", "keys", seasonParam);
+    }
+
+    /**
+     * 根据缓存键得到其所属的赛季索引键
+     *
+     * <p>统计、趋势、对手统计、比赛总数缓存键的第四段均为赛季（第三段为代数）
+     *
+     * @param cacheKey 缓存键
+     * @return 索引键字符串
+     */
+    public String getSeasonIndexKeyOf(String cacheKey) {
+        String[] parts = cacheKey.split(":");
+        return genericGenerator.generateKey("match", "keys", parts[3]);
+    }
+
+    /**
+     * 判断缓存键是否受指定游戏日期的比赛影响
+     *
+     * <p>只有统计缓存键带日期（第六段），日期为 all 或与游戏日期相同时受影响；
+     * 趋势、对手统计和比赛总数覆盖所有日期，始终受影响
+     *
+     * @param cacheKey 缓存键
+     * @param gameDate 游戏日期，格式 yyyy-MM-dd；为空表示比赛不属于任何游戏日，只影响日期为 all 的统计缓存
+     * @return 是否受影响
+     */
+    public boolean isAffectedByGameDate(String cacheKey, String gameDate) {
+        String[] parts = cacheKey.split(":");
+        if (!"stats".equals(parts[1]) || parts.length < 6) {
+            return true;
+        }
+        return "all".equals(parts[5]) || parts[5].equals(gameDate);
     }
-}
\ No newline at end of file
+}
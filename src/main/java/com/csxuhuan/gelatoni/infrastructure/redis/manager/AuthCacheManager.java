@@ -0,0 +1,330 @@
+package com.csxuhuan.gelatoni.infrastructure.redis.manager;
+
+import com.csxuhuan.gelatoni.application.dto.UserInfoDTO;
+import com.csxuhuan.gelatoni.domain.event.PermissionChangedEvent;
+import com.csxuhuan.gelatoni.infrastructure.redis.RedisClient;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 认证信息缓存管理器
+ *
+ * <p>缓存鉴权所需的用户角色、权限快照，避免每个请求都查询用户、用户角色、角色、角色权限、权限五张表：
+ * <ul>
+ *     <li>用户快照：auth:snapshot:user:{userId}，登录用户的用户信息、角色编码、权限编码</li>
+ *     <li>角色快照：auth:snapshot:role:{roleCode}，如匿名角色的权限编码</li>
+ * </ul>
+ *
+ * <p>两级缓存：进程内 Caffeine（L1）+ Redis（L2），均有过期时间。
+ * 用户分配角色时清除该用户的快照；角色分配权限、角色或权限变更时清除全部快照。
+ * 清除时通过 Redis 发布/订阅通知所有实例同步清除各自的 L1。
+ * 清除全部快照时（本实例或其他实例）还会发布 {@link PermissionChangedEvent}。
+ *
+ * <p>权限版本：每个用户的权限版本为 {全局版本}.{用户版本}，计数器保存在 Redis（auth:version:*）。
+ * 清除用户快照时递增该用户的版本，清除全部快照时递增全局版本。
+ * Token 中嵌入权限时同时写入签发时的版本，鉴权时与当前版本比较，不一致说明权限已变更，Token 作废。
+ * 版本在本地缓存一小段时间，本实例变更后立即生效，其他实例收到失效通知时立即生效；
+ * 本地未命中的全局版本和用户版本用一条 MGET 读取。
+ *
+ * <p>快照与版本一起缓存（见 {@link AuthCacheEntry}）：调用方在查询数据库之前取当前版本，写入时带上该版本；
+ * 读取时版本与当前版本不一致视为未命中。查询期间发生的权限变更会使版本变化，
+ * 并发请求写入的旧快照因此不会被后续请求读到。用户快照使用用户权限版本，角色快照使用全局版本。
+ *
+ * <p>注意：缓存中的对象被多个请求共享，放入前会把其中的集合替换为不可修改集合，调用方只能读取不能修改。
+ *
+ * @author csxuhuan
+ * @since 1.0.0
+ */
+@Component
+public class AuthCacheManager {
+
+    /** 用户快照键前缀 */
+    private static final String USER_KEY_PREFIX = "auth:snapshot:user:";
+
+    /** 角色快照键前缀 */
+    private static final String ROLE_KEY_PREFIX = "auth:snapshot:role:";
+
+    /** 全部用户快照的键模式 */
+    private static final String ALL_USER_KEY_PATTERN = USER_KEY_PREFIX + "*";
+
+    /** 全部角色快照的键模式 */
+    private static final String ALL_ROLE_KEY_PATTERN = ROLE_KEY_PREFIX + "*";
+
+    /** 全局权限版本键 */
+    private static final String GLOBAL_VERSION_KEY = "auth:version:global";
+
+    /** 用户权限版本键前缀 */
+    private static final String USER_VERSION_PREFIX = "auth:version:user:";
+
+    /** 本地缓存失效通知频道 */
+    private static final String INVALIDATE_CHANNEL = "auth:cache:invalidate";
+
+    /** 失效通知消息：清除全部本地缓存 */
+    private static final String INVALIDATE_ALL = "*";
+
+    /** 失效通知消息中多个键的分隔符 */
+    private static final String INVALIDATE_SEPARATOR = "\n";
+
+    private final RedisClient redisClient;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 一级缓存（进程内） */
+    private final Cache<String, AuthCacheEntry> localCache;
+
+    /** 本地缓存的权限版本 */
+    private final Cache<String, Long> localVersions;
+
+    /** Redis 中的过期时间 */
+    private final Duration ttl;
+
+    public AuthCacheManager(RedisClient redisClient,
+                            ApplicationEventPublisher eventPublisher,
+                            RedisMessageListenerContainer listenerContainer,
+                            @Value("${auth.cache.local-cache.max-size:1024}") long localMaxSize,
+                            @Value("${auth.cache.local-cache.ttl-seconds:60}") long localTtlSeconds,
+                            @Value("${auth.cache.ttl-seconds:600}") long ttlSeconds,
+                            @Value("${auth.permission-version.refresh-millis:1000}") long versionRefreshMillis) {
+        this.redisClient = redisClient;
+        this.eventPublisher = eventPublisher;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.localVersions = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMillis(versionRefreshMillis))
+                .build();
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 获取缓存的用户快照
+     *
+     * @param userId 用户ID
+     * @param version 当前的用户权限版本（{@link #getPermissionVersion(Long)}）
+     * @return 用户快照，如果不存在或版本不一致则返回null
+     */
+    public UserInfoDTO getUser(Long userId, String version) {
+        return get(USER_KEY_PREFIX + userId, version);
+    }
+
+    /**
+     * 设置用户快照到缓存
+     *
+     * @param userId 用户ID
+     * @param userInfo 用户快照
+     * @param version 查询快照之前取得的用户权限版本
+     */
+    public void setUser(Long userId, UserInfoDTO userInfo, String version) {
+        set(USER_KEY_PREFIX + userId, userInfo, version);
+    }
+
+    /**
+     * 获取缓存的角色快照
+     *
+     * @param roleCode 角色编码
+     * @param version 当前的全局权限版本（{@link #getGlobalPermissionVersion()}）
+     * @return 角色快照，如果不存在或版本不一致则返回null
+     */
+    public UserInfoDTO getRole(String roleCode, String version) {
+        return get(ROLE_KEY_PREFIX + roleCode, version);
+    }
+
+    /**
+     * 设置角色快照到缓存
+     *
+     * @param roleCode 角色编码
+     * @param roleInfo 角色快照
+     * @param version 查询快照之前取得的全局权限版本
+     */
+    public void setRole(String roleCode, UserInfoDTO roleInfo, String version) {
+        set(ROLE_KEY_PREFIX + roleCode, roleInfo, version);
+    }
+
+    /**
+     * 获取用户当前的权限版本
+     *
+     * @param userId 用户ID
+     * @return 权限版本，格式 {全局版本}.{用户版本}
+     */
+    public String getPermissionVersion(Long userId) {
+        String userVersionKey = USER_VERSION_PREFIX + userId;
+        Map<String, Long> versions = localVersions.getAll(Arrays.asList(GLOBAL_VERSION_KEY, userVersionKey),
+                this::loadVersions);
+        return versions.get(GLOBAL_VERSION_KEY) + "." + versions.get(userVersionKey);
+    }
+
+    /**
+     * 获取当前的全局权限版本，角色权限、角色或权限变更时变化
+     *
+     * @return 全局权限版本
+     */
+    public String getGlobalPermissionVersion() {
+        return String.valueOf(getVersion(GLOBAL_VERSION_KEY));
+    }
+
+    /**
+     * 清除指定用户的快照并递增其权限版本，用户角色变更时调用
+     *
+     * @param userId 用户ID
+     */
+    public void evictUser(Long userId) {
+        String cacheKey = USER_KEY_PREFIX + userId;
+        String versionKey = USER_VERSION_PREFIX + userId;
+        redisClient.delete(cacheKey);
+        redisClient.increment(versionKey, 1, null);
+        publishInvalidate(cacheKey + INVALIDATE_SEPARATOR + versionKey);
+    }
+
+    /**
+     * 清除全部用户和角色快照并递增全局权限版本，角色权限、角色或权限变更时调用
+     */
+    public void evictAll() {
+        redisClient.deleteByPattern(ALL_USER_KEY_PATTERN);
+        redisClient.deleteByPattern(ALL_ROLE_KEY_PATTERN);
+        redisClient.increment(GLOBAL_VERSION_KEY, 1, null);
+        publishInvalidate(INVALIDATE_ALL);
+    }
+
+    /**
+     * 读取版本计数器，Redis 中不存在时为 0
+     */
+    private long getVersion(String versionKey) {
+        return localVersions.get(versionKey, key -> {
+            Long version = redisClient.get(key, Long.class);
+            return version == null ? 0L : version;
+        });
+    }
+
+    /**
+     * 用一条 MGET 读取本地未命中的版本计数器，Redis 中不存在时为 0
+     */
+    private Map<String, Long> loadVersions(Iterable<? extends String> versionKeys) {
+        List<String> keys = new ArrayList<>();
+        versionKeys.forEach(keys::add);
+        List<Long> values = redisClient.mget(keys, Long.class);
+        Map<String, Long> versions = new HashMap<>(keys.size() * 2);
+        for (int i = 0; i < keys.size(); i++) {
+            Long version = values.get(i);
+            versions.put(keys.get(i), version == null ? 0L : version);
+        }
+        return versions;
+    }
+
+    private UserInfoDTO get(String cacheKey, String version) {
+        AuthCacheEntry entry = localCache.getIfPresent(cacheKey);
+        if (entry == null) {
+            entry = redisClient.get(cacheKey, AuthCacheEntry.class);
+            if (entry == null || entry.getValue() == null) {
+                return null;
+            }
+            freeze(entry.getValue());
+            localCache.put(cacheKey, entry);
+        }
+        return version.equals(entry.getVersion()) ? entry.getValue() : null;
+    }
+
+    private void set(String cacheKey, UserInfoDTO userInfo, String version) {
+        AuthCacheEntry entry = new AuthCacheEntry(userInfo, version);
+        redisClient.set(cacheKey, entry, ttl);
+        freeze(userInfo);
+        localCache.put(cacheKey, entry);
+    }
+
+    /**
+     * 清除本实例的本地缓存，并通知其他实例同步清除
+     *
+     * @param message 缓存键（多个以换行分隔），或 {@link #INVALIDATE_ALL} 表示全部
+     */
+    private void publishInvalidate(String message) {
+        onInvalidate(message);
+        redisClient.publish(INVALIDATE_CHANNEL, message);
+    }
+
+    /**
+     * 处理失效通知：清除本地缓存中的指定键或全部键
+     *
+     * @param message 缓存键（多个以换行分隔），或 {@link #INVALIDATE_ALL} 表示全部
+     */
+    private void onInvalidate(String message) {
+        if (INVALIDATE_ALL.equals(message)) {
+            localCache.invalidateAll();
+            localVersions.invalidateAll();
+            eventPublisher.publishEvent(PermissionChangedEvent.instance());
+        } else {
+            for (String cacheKey : message.split(INVALIDATE_SEPARATOR)) {
+                localCache.invalidate(cacheKey);
+                localVersions.invalidate(cacheKey);
+            }
+        }
+    }
+
+    /**
+     * 把快照中的集合替换为不可修改集合，便于在本地缓存中共享
+     */
+    private static UserInfoDTO freeze(UserInfoDTO userInfo) {
+        userInfo.setRoleCodes(freezeList(userInfo.getRoleCodes()));
+        userInfo.setPermissionCodes(freezeList(userInfo.getPermissionCodes()));
+        return userInfo;
+    }
+
+    private static <E> List<E> freezeList(List<E> list) {
+        return list == null ? null : Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    // ==================== 缓存条目 ====================
+
+    /**
+     * 认证信息缓存条目：快照 + 查询快照之前取得的权限版本
+     */
+    public static class AuthCacheEntry {
+
+        /** 用户或角色快照 */
+        private UserInfoDTO value;
+
+        /** 权限版本 */
+        private String version;
+
+        // Jackson反序列化需要无参构造函数
+        public AuthCacheEntry() {
+        }
+
+        public AuthCacheEntry(UserInfoDTO value, String version) {
+            this.value = value;
+            this.version = version;
+        }
+
+        public UserInfoDTO getValue() {
+            return value;
+        }
+
+        public void setValue(UserInfoDTO value) {
+            this.value = value;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        public void setVersion(String version) {
+            this.version = version;
+        }
+    }
+}
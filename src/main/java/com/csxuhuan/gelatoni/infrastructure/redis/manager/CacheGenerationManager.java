@@ -0,0 +1,74 @@
+package com.csxuhuan.gelatoni.infrastructure.redis.manager;
+
+import com.csxuhuan.gelatoni.infrastructure.redis.RedisClient;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 缓存代数管理器
+ *
+ * <p>每个命名空间在 Redis 中保存一个代数（match:gen:{namespace}），缓存键中带上代数。
+ * 使某个命名空间的缓存整体失效只需要 INCR 一次代数，旧代数的缓存键不再被访问，按 TTL 自然过期。
+ *
+ * <p>代数在本地缓存一小段时间，避免每次生成缓存键都访问 Redis；
+ * 本实例递增代数后立即生效，其他实例最迟在刷新间隔后生效（收到失效通知时会立即刷新）。
+ *
+ * @author csxuhuan
+ * @since 1.0.0
+ */
+@Component
+public class CacheGenerationManager {
+
+    /** 代数键前缀 */
+    private static final String GENERATION_PREFIX = "match:gen:";
+
+    private final RedisClient redisClient;
+
+    /** 本地代数缓存 */
+    private final Cache<String, Long> localGenerations;
+
+    public CacheGenerationManager(RedisClient redisClient,
+                                  @Value("${match.stats.generation.refresh-millis:1000}") long refreshMillis) {
+        this.redisClient = redisClient;
+        this.localGenerations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(refreshMillis))
+                .build();
+    }
+
+    /**
+     * 获取命名空间的当前代数，Redis 中不存在时为 0
+     *
+     * @param namespace 命名空间
+     * @return 当前代数
+     */
+    public long getGeneration(String namespace) {
+        return localGenerations.get(namespace, ns -> {
+            Long generation = redisClient.get(GENERATION_PREFIX + ns, Long.class);
+            return generation == null ? 0L : generation;
+        });
+    }
+
+    /**
+     * 递增命名空间的代数，使该命名空间下的缓存整体失效
+     *
+     * @param namespace 命名空间
+     * @return 递增后的代数
+     */
+    public long bump(String namespace) {
+        Long generation = redisClient.increment(GENERATION_PREFIX + namespace, 1, null);
+        long value = generation == null ? 0L : generation;
+        localGenerations.put(namespace, value);
+        return value;
+    }
+
+    /**
+     * 丢弃本地缓存的全部代数，下次使用时重新从 Redis 读取
+     */
+    public void refreshAll() {
+        localGenerations.invalidateAll();
+    }
+}
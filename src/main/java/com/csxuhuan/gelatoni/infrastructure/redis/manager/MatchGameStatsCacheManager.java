@@ -1,57 +1,180 @@
 package com.csxuhuan.gelatoni.infrastructure.redis.manager;
 
+import com.csxuhuan.gelatoni.application.dto.MatchGameBaseDataDTO;
+import com.csxuhuan.gelatoni.application.dto.MatchGameBaseDataSnapshot;
 import com.csxuhuan.gelatoni.application.dto.MatchGameStatsDTO;
+import com.csxuhuan.gelatoni.application.dto.MatchGameTrendDTO;
+import com.csxuhuan.gelatoni.application.dto.OpponentStatsDTO;
+import com.csxuhuan.gelatoni.domain.event.MatchGameChangedEvent;
 import com.csxuhuan.gelatoni.infrastructure.redis.RedisClient;
 import com.csxuhuan.gelatoni.infrastructure.redis.generator.GenericCacheKeyGenerator;
 import com.csxuhuan.gelatoni.infrastructure.redis.generator.MatchGameStatsCacheKeyGenerator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * 比赛统计数据缓存管理器
  * 
  * <p>负责比赛统计数据的缓存操作，包括获取、设置、清除等
  * 默认缓存时间为30分钟，可根据业务需求调整
+ *
+ * <p>两级缓存：
+ * <ul>
+ *     <li>L1：进程内 Caffeine 缓存，按条目数和写入时间淘汰，命中时无网络 I/O、无反序列化</li>
+ *     <li>L2：Redis，L1 未命中时读取，读到后回填 L1</li>
+ *     <li>失效：清除缓存时通过 Redis 发布/订阅通知所有实例同步清除各自的 L1</li>
+ * </ul>
+ *
+ * <p>过期刷新：统计数据在 Redis 中以 {@link StatsCacheEntry} 保存，带有独立于 Redis TTL 的逻辑过期时间。
+ * 超过逻辑过期时间（或按 XFetch 规则提前）时先返回旧值，再由后台线程重新加载，避免整点同时过期导致请求变慢。
+ *
+ * <p>精确失效：每个缓存键写入时登记到所属赛季的索引（match:keys:{season}，有序集合，分数为缓存键的过期时间）。
+ * 比赛变更时根据 {@link MatchGameChangedEvent} 中的赛季和游戏日期，只清除该赛季及全赛季下
+ * 日期为该游戏日或全部日期的缓存，其他赛季、其他日期的缓存保持不变，无需按模式扫描。
+ * 读取索引前先移除已过期的成员，自然过期的键、旧代数的键不会在索引中堆积。
+ *
+ * <p>基础数据：筛选项基础数据整体缓存为一个快照，任何比赛变更都直接删除该键。
+ *
+ * <p>整体失效：缓存键带有全局代数（见 {@link MatchGameStatsCacheKeyGenerator}），清除全部缓存
+ * 只需递增一次代数，不扫描、不删除键。
+ * 缓存值结构发生不兼容变更时递增 {@link MatchGameStatsCacheKeyGenerator#CACHE_FORMAT_VERSION}，旧格式的键不再被访问。
+ *
+ * <p>防击穿：{@link #getOrLoadStats} 对同一个键只让一个请求执行加载，其他请求等待它的结果；
+ * 开启分布式锁后，多个实例之间也只有持锁的实例加载，其他实例轮询缓存等待结果。
+ *
+ * <p>注意：L1 中的对象被多个请求共享，放入前会把其中的集合替换为不可修改集合，调用方只能读取不能修改。
  * 
  * @author csxuhuan
  * @since 1.0.0
  */
+@Slf4j
 @Component
 public class MatchGameStatsCacheManager {
 
     private final RedisClient redisClient;
     private final MatchGameStatsCacheKeyGenerator keyGenerator;
     private final GenericCacheKeyGenerator genericKeyGenerator;
+    private final CacheGenerationManager generationManager;
+
+    /** 本地一级缓存，值为已冻结的统计 DTO */
+    private final Cache<String, Object> localCache;
 
     /** 默认缓存时间：30分钟 */
     private static final Duration DEFAULT_CACHE_TTL = Duration.ofMinutes(30);
 
+    /** 本地缓存失效通知频道 */
+    private static final String INVALIDATE_CHANNEL = "match:cache:invalidate";
+
+    /** 失效通知中表示清除全部本地缓存的消息 */
+    private static final String INVALIDATE_ALL = "*";
+
+    /** 失效通知中多个缓存键之间的分隔符 */
+    private static final String INVALIDATE_SEPARATOR = "\n";
+
+    /** 分布式加载锁的键前缀 */
+    private static final String LOAD_LOCK_PREFIX = "match:lock:";
+
+    /** 分布式加载锁的过期时间，需大于一次加载的耗时 */
+    private static final Duration LOAD_LOCK_TTL = Duration.ofSeconds(10);
+
+    /** 未拿到分布式锁时等待其他实例写入缓存的最长时间 */
+    private static final long LOAD_LOCK_WAIT_MILLIS = 3000;
+
+    /** 等待其他实例写入缓存时的轮询间隔 */
+    private static final long LOAD_LOCK_POLL_MILLIS = 50;
+
+    /** 赛季索引比其中缓存键多保留的时间，保证索引不早于缓存键过期 */
+    private static final Duration INDEX_EXTRA_TTL = Duration.ofMinutes(1);
+
+    /** 逻辑过期后继续保留旧值的时间，期间读取返回旧值并触发后台刷新 */
+    private static final Duration STATS_STALE_TTL = Duration.ofMinutes(30);
+
+    /** XFetch 参数 β，越大越倾向于提前刷新 */
+    private static final double XFETCH_BETA = 1.0;
+
+    /** 后台刷新线程池：最多 2 个线程，队列满时跳过本次刷新 */
+    private final ExecutorService refreshExecutor = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(64), runnable -> {
+                Thread thread = new Thread(runnable, "match-stats-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /** 本实例内正在加载的键，值为加载结果 */
+    private final ConcurrentMap<String, CompletableFuture<MatchGameStatsDTO>> statsLoading = new ConcurrentHashMap<>();
+
+    /** 是否启用跨实例的分布式加载锁 */
+    private final boolean loadLockEnabled;
+
     public MatchGameStatsCacheManager(RedisClient redisClient, 
                                     MatchGameStatsCacheKeyGenerator keyGenerator,
-                                    GenericCacheKeyGenerator genericKeyGenerator) {
+                                    GenericCacheKeyGenerator genericKeyGenerator,
+                                    CacheGenerationManager generationManager,
+                                    RedisMessageListenerContainer listenerContainer,
+                                    @Value("${match.stats.local-cache.max-size:256}") long localMaxSize,
+                                    @Value("${match.stats.local-cache.ttl-seconds:300}") long localTtlSeconds,
+                                    @Value("${match.stats.load-lock.enabled:false}") boolean loadLockEnabled) {
         this.redisClient = redisClient;
+        this.loadLockEnabled = loadLockEnabled;
         this.keyGenerator = keyGenerator;
         this.genericKeyGenerator = genericKeyGenerator;
+        this.generationManager = generationManager;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATE_CHANNEL));
     }
 
     /**
-     * 启动时清理旧格式缓存，避免反序列化错误
+     * 关闭后台刷新线程池
      */
-    @PostConstruct
-    public void init() {
-        evictAllStats();
+    @PreDestroy
+    public void destroy() {
+        refreshExecutor.shutdownNow();
     }
 
     /**
-     * 获取缓存的统计数据
+     * 获取缓存的统计数据（不区分是否已过逻辑过期时间）
      * 
      * @param cacheKey 缓存键
      * @return 缓存的统计数据，如果不存在则返回null
      */
     public MatchGameStatsDTO getStats(String cacheKey) {
-        return redisClient.get(cacheKey, MatchGameStatsDTO.class);
+        StatsCacheEntry entry = getStatsEntry(cacheKey);
+        return entry == null ? null : entry.getValue();
     }
 
     /**
@@ -61,7 +184,326 @@ public class MatchGameStatsCacheManager {
      * @param stats 统计数据
      */
     public void setStats(String cacheKey, MatchGameStatsDTO stats) {
-        redisClient.set(cacheKey, stats, DEFAULT_CACHE_TTL);
+        putStats(cacheKey, stats, DEFAULT_CACHE_TTL, 0);
+    }
+
+    /**
+     * 获取统计数据，缓存未命中时加载并写入缓存
+     *
+     * <p>同一实例内同一个键同时只有一个请求执行 loader，其余请求等待并共享结果；
+     * loader 抛出的异常同样会传递给等待的请求。
+     *
+     * <p>缓存已过逻辑过期时间，或按 XFetch 规则提前命中刷新时，直接返回当前值，
+     * 同时在后台异步重新加载，请求不会因为过期而变慢。
+     *
+     * @param cacheKey 缓存键
+     * @param loader 缓存未命中时的加载逻辑
+     * @return 统计数据
+     */
+    public MatchGameStatsDTO getOrLoadStats(String cacheKey, Supplier<MatchGameStatsDTO> loader) {
+        StatsCacheEntry entry = getStatsEntry(cacheKey);
+        if (entry != null) {
+            if (shouldRefresh(entry)) {
+                refreshStatsAsync(cacheKey, loader);
+            }
+            return entry.getValue();
+        }
+
+        CompletableFuture<MatchGameStatsDTO> future = new CompletableFuture<>();
+        CompletableFuture<MatchGameStatsDTO> loading = statsLoading.putIfAbsent(cacheKey, future);
+        if (loading != null) {
+            return join(loading);
+        }
+        try {
+            future.complete(loadStats(cacheKey, loader, false));
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+        } finally {
+            statsLoading.remove(cacheKey, future);
+        }
+        return join(future);
+    }
+
+    /**
+     * XFetch 提前刷新判断：now - 加载耗时 × β × ln(random) ≥ 逻辑过期时间
+     *
+     * <p>加载越慢、越接近过期，提前刷新的概率越大；过了逻辑过期时间则一定刷新。
+     */
+    private static boolean shouldRefresh(StatsCacheEntry entry) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        double early = -entry.getComputeMillis() * XFETCH_BETA * Math.log(random);
+        return System.currentTimeMillis() + early >= entry.getSoftExpireAt();
+    }
+
+    /**
+     * 在后台线程重新加载统计数据；同一个键已经在加载时不重复提交
+     */
+    private void refreshStatsAsync(String cacheKey, Supplier<MatchGameStatsDTO> loader) {
+        CompletableFuture<MatchGameStatsDTO> future = new CompletableFuture<>();
+        if (statsLoading.putIfAbsent(cacheKey, future) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    future.complete(loadStats(cacheKey, loader, true));
+                } catch (RuntimeException | Error e) {
+                    log.warn("后台刷新统计缓存失败, key={}", cacheKey, e);
+                    future.completeExceptionally(e);
+                } finally {
+                    statsLoading.remove(cacheKey, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 刷新队列已满，本次跳过，下一个请求会再次尝试
+            statsLoading.remove(cacheKey, future);
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 执行一次加载：按需获取分布式锁，加载后写入缓存
+     *
+     * @param refresh true 表示后台刷新（缓存中已有旧值），false 表示缓存未命中
+     */
+    private MatchGameStatsDTO loadStats(String cacheKey, Supplier<MatchGameStatsDTO> loader, boolean refresh) {
+        if (refresh) {
+            // 其他实例可能已经刷新了 Redis，本实例 L1 中的还是逻辑过期的旧条目，直接采用 Redis 中的新条目
+            StatsCacheEntry latest = redisClient.get(cacheKey, StatsCacheEntry.class);
+            if (latest != null && latest.getValue() != null
+                    && latest.getSoftExpireAt() > System.currentTimeMillis()) {
+                freezeStats(latest.getValue());
+                localCache.put(cacheKey, latest);
+                return latest.getValue();
+            }
+        } else {
+            // 上一个加载者可能刚刚写完缓存
+            MatchGameStatsDTO stats = getStats(cacheKey);
+            if (stats != null) {
+                return stats;
+            }
+        }
+        if (!loadLockEnabled) {
+            return computeStats(cacheKey, loader);
+        }
+
+        String lockKey = LOAD_LOCK_PREFIX + cacheKey;
+        String token = UUID.randomUUID().toString();
+        if (!redisClient.setIfAbsent(lockKey, token, LOAD_LOCK_TTL)) {
+            if (refresh) {
+                // 其他实例正在刷新，继续使用旧值
+                return getStats(cacheKey);
+            }
+            // 其他实例正在加载，等待它写入缓存；超时后自行加载
+            MatchGameStatsDTO stats = waitForStats(cacheKey);
+            return stats != null ? stats : computeStats(cacheKey, loader);
+        }
+        try {
+            return computeStats(cacheKey, loader);
+        } finally {
+            redisClient.deleteIfEquals(lockKey, token);
+        }
+    }
+
+    /**
+     * 调用 loader 计算统计数据，记录耗时后写入缓存
+     */
+    private MatchGameStatsDTO computeStats(String cacheKey, Supplier<MatchGameStatsDTO> loader) {
+        long start = System.currentTimeMillis();
+        MatchGameStatsDTO stats = loader.get();
+        putStats(cacheKey, stats, DEFAULT_CACHE_TTL, System.currentTimeMillis() - start);
+        return stats;
+    }
+
+    /**
+     * 轮询等待其他实例写入缓存
+     *
+     * @return 缓存的统计数据，超时仍未写入则返回null
+     */
+    private MatchGameStatsDTO waitForStats(String cacheKey) {
+        long deadline = System.currentTimeMillis() + LOAD_LOCK_WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LOAD_LOCK_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            MatchGameStatsDTO stats = getStats(cacheKey);
+            if (stats != null) {
+                return stats;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 读取统计缓存条目：先查本地缓存，未命中再查 Redis 并回填本地缓存
+     */
+    private StatsCacheEntry getStatsEntry(String cacheKey) {
+        StatsCacheEntry entry = (StatsCacheEntry) localCache.getIfPresent(cacheKey);
+        if (entry == null) {
+            entry = redisClient.get(cacheKey, StatsCacheEntry.class);
+            if (entry != null && entry.getValue() != null) {
+                freezeStats(entry.getValue());
+                localCache.put(cacheKey, entry);
+            }
+        }
+        return entry == null || entry.getValue() == null ? null : entry;
+    }
+
+    /**
+     * 写入统计缓存条目
+     *
+     * <p>逻辑过期时间为 now + softTtl；Redis 过期时间额外加上 {@link #STATS_STALE_TTL}，
+     * 在这段时间内读到的是旧值，同时触发后台刷新。
+     *
+     * @param softTtl 逻辑过期时间
+     * @param computeMillis 本次加载耗时，用于 XFetch 提前刷新
+     */
+    private void putStats(String cacheKey, MatchGameStatsDTO stats, Duration softTtl, long computeMillis) {
+        StatsCacheEntry entry = new StatsCacheEntry(stats,
+                System.currentTimeMillis() + softTtl.toMillis(), computeMillis);
+        Duration ttl = softTtl.plus(STATS_STALE_TTL);
+        redisClient.set(cacheKey, entry, ttl);
+        registerKey(cacheKey, ttl);
+        freezeStats(stats);
+        localCache.put(cacheKey, entry);
+    }
+
+    /**
+     * 等待加载结果，加载失败时抛出原始异常
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 获取缓存的趋势数据
+     *
+     * @param cacheKey 缓存键
+     * @return 缓存的趋势数据，如果不存在则返回null
+     */
+    public MatchGameTrendDTO getTrend(String cacheKey) {
+        MatchGameTrendDTO trend = (MatchGameTrendDTO) localCache.getIfPresent(cacheKey);
+        if (trend == null) {
+            trend = redisClient.get(cacheKey, MatchGameTrendDTO.class);
+            if (trend != null) {
+                localCache.put(cacheKey, freezeTrend(trend));
+            }
+        }
+        return trend;
+    }
+
+    /**
+     * 设置趋势数据到缓存
+     *
+     * @param cacheKey 缓存键
+     * @param trend 趋势数据
+     */
+    public void setTrend(String cacheKey, MatchGameTrendDTO trend) {
+        redisClient.set(cacheKey, trend, DEFAULT_CACHE_TTL);
+        registerKey(cacheKey, DEFAULT_CACHE_TTL);
+        localCache.put(cacheKey, freezeTrend(trend));
+    }
+
+    /**
+     * 获取缓存的对手统计数据
+     *
+     * @param cacheKey 缓存键
+     * @return 缓存的对手统计数据，如果不存在则返回null
+     */
+    public OpponentStatsDTO getOpponentStats(String cacheKey) {
+        OpponentStatsDTO opponentStats = (OpponentStatsDTO) localCache.getIfPresent(cacheKey);
+        if (opponentStats == null) {
+            opponentStats = redisClient.get(cacheKey, OpponentStatsDTO.class);
+            if (opponentStats != null) {
+                localCache.put(cacheKey, freezeOpponentStats(opponentStats));
+            }
+        }
+        return opponentStats;
+    }
+
+    /**
+     * 设置对手统计数据到缓存
+     *
+     * @param cacheKey 缓存键
+     * @param opponentStats 对手统计数据
+     */
+    public void setOpponentStats(String cacheKey, OpponentStatsDTO opponentStats) {
+        redisClient.set(cacheKey, opponentStats, DEFAULT_CACHE_TTL);
+        registerKey(cacheKey, DEFAULT_CACHE_TTL);
+        localCache.put(cacheKey, freezeOpponentStats(opponentStats));
+    }
+
+    /**
+     * 获取缓存的比赛总数
+     *
+     * @param cacheKey 缓存键
+     * @return 缓存的比赛总数，如果不存在则返回null
+     */
+    public Long getMatchCount(String cacheKey) {
+        Long count = (Long) localCache.getIfPresent(cacheKey);
+        if (count == null) {
+            count = redisClient.get(cacheKey, Long.class);
+            if (count != null) {
+                localCache.put(cacheKey, count);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 设置比赛总数到缓存，与统计缓存一样登记赛季索引，比赛变更时随之清除
+     *
+     * @param cacheKey 缓存键
+     * @param count 比赛总数
+     */
+    public void setMatchCount(String cacheKey, long count) {
+        redisClient.set(cacheKey, count, DEFAULT_CACHE_TTL);
+        registerKey(cacheKey, DEFAULT_CACHE_TTL);
+        localCache.put(cacheKey, count);
+    }
+
+    /**
+     * 获取缓存的比赛基础数据快照
+     *
+     * @return 缓存的基础数据快照，如果不存在则返回null
+     */
+    public MatchGameBaseDataSnapshot getBaseData() {
+        String cacheKey = keyGenerator.generateBaseDataKey();
+        MatchGameBaseDataSnapshot snapshot = (MatchGameBaseDataSnapshot) localCache.getIfPresent(cacheKey);
+        if (snapshot == null) {
+            snapshot = redisClient.get(cacheKey, MatchGameBaseDataSnapshot.class);
+            if (snapshot != null) {
+                localCache.put(cacheKey, freezeBaseData(snapshot));
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 设置比赛基础数据快照到缓存
+     *
+     * <p>基础数据不登记赛季索引，比赛变更时直接按键删除
+     *
+     * @param snapshot 基础数据快照
+     */
+    public void setBaseData(MatchGameBaseDataSnapshot snapshot) {
+        String cacheKey = keyGenerator.generateBaseDataKey();
+        redisClient.set(cacheKey, snapshot, DEFAULT_CACHE_TTL);
+        localCache.put(cacheKey, freezeBaseData(snapshot));
     }
 
     /**
@@ -71,28 +513,71 @@ public class MatchGameStatsCacheManager {
      * @return 是否删除成功
      */
     public Boolean evict(String cacheKey) {
-        return redisClient.delete(cacheKey);
+        Boolean deleted = redisClient.delete(cacheKey);
+        publishInvalidate(cacheKey);
+        return deleted;
     }
 
     /**
-     * 清除所有统计数据缓存
+     * 清除所有统计数据缓存（统计榜单、趋势及对手统计）
      * 在数据发生重大变更时调用
+     *
+     * <p>只递增一次全局代数，不删除任何键，旧代数的缓存按 TTL 自然过期
      */
     public void evictAllStats() {
-        String pattern = keyGenerator.getAllStatsPattern();
-        redisClient.deleteByPattern(pattern);
+        generationManager.bump(MatchGameStatsCacheKeyGenerator.GLOBAL_NAMESPACE);
+        publishInvalidate(INVALIDATE_ALL);
     }
 
     /**
-     * 清除指定赛季的统计数据缓存
-     * 在特定赛季数据变更时调用
-     * 
-     * @param season 赛季标识
+     * 比赛数据变更后清除受影响的缓存
+     *
+     * <p>在发布事件的事务提交后执行，避免清除后、提交前的请求把旧数据重新写入缓存；
+     * 没有事务时立即执行。
+     *
+     * @param event 比赛数据变更事件
      */
-    public void evictSeasonStats(String season) {
-        // 同上，需要根据具体的Redis实现来处理pattern匹配删除
-        String pattern = keyGenerator.getSeasonStatsPattern(season);
-        // 实际删除逻辑待实现
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchGameChanged(MatchGameChangedEvent event) {
+        evictGameStats(event.getSeason(), event.getGameDate());
+        // 赛季、日期、球员名称都可能变化，基础数据整体失效
+        evict(keyGenerator.generateBaseDataKey());
+    }
+
+    /**
+     * 清除某赛季某游戏日的比赛所影响的缓存
+     *
+     * <p>受影响范围：赛季为该赛季或全赛季，且日期为该游戏日或全部日期的统计缓存，
+     * 以及该赛季和全赛季的趋势、对手统计等不区分日期的缓存。
+     * 游戏日期为空（比赛不属于任何游戏日）时只影响日期为全部日期的统计缓存。
+     *
+     * @param season 赛季标识，为空表示只影响全赛季
+     * @param gameDate 游戏日期，可为空
+     */
+    public void evictGameStats(String season, LocalDate gameDate) {
+        String date = gameDate == null ? null : gameDate.toString();
+        Set<String> indexKeys = new LinkedHashSet<>();
+        indexKeys.add(keyGenerator.getSeasonIndexKey(season));
+        indexKeys.add(keyGenerator.getSeasonIndexKey(null));
+
+        long now = System.currentTimeMillis();
+        List<String> evicted = new ArrayList<>();
+        for (String indexKey : indexKeys) {
+            // 先移除已经过期的成员，只处理仍然存在的缓存键
+            redisClient.removeFromSortedSetByScore(indexKey, now);
+            List<String> affected = new ArrayList<>();
+            for (String cacheKey : redisClient.sortedSetMembers(indexKey)) {
+                if (keyGenerator.isAffectedByGameDate(cacheKey, date)) {
+                    affected.add(cacheKey);
+                }
+            }
+            redisClient.removeFromSortedSet(indexKey, affected);
+            evicted.addAll(affected);
+        }
+        if (!evicted.isEmpty()) {
+            redisClient.delete(evicted);
+            publishInvalidate(String.join(INVALIDATE_SEPARATOR, evicted));
+        }
     }
 
     /**
@@ -110,10 +595,170 @@ public class MatchGameStatsCacheManager {
      * 
      * @param cacheKey 缓存键
      * @param stats 统计数据
-     * @param ttl 缓存时间
+     * @param ttl 缓存时间（逻辑过期时间）
      */
     public void setStatsWithCustomTtl(String cacheKey, MatchGameStatsDTO stats, Duration ttl) {
-        redisClient.set(cacheKey, stats, ttl);
+        putStats(cacheKey, stats, ttl, 0);
+    }
+
+    // ==================== 本地缓存失效 ====================
+
+    /**
+     * 把缓存键登记到所属赛季的索引，分数为缓存键的过期时间，索引的过期时间不短于缓存键本身
+     *
+     * @param cacheKey 缓存键
+     * @param ttl 缓存键的过期时间
+     */
+    private void registerKey(String cacheKey, Duration ttl) {
+        redisClient.addToSortedSet(keyGenerator.getSeasonIndexKeyOf(cacheKey), cacheKey,
+                System.currentTimeMillis() + ttl.toMillis(), ttl.plus(INDEX_EXTRA_TTL));
+    }
+
+    /**
+     * 清除本实例的本地缓存，并通知其他实例同步清除
+     *
+     * @param message 缓存键（多个以换行分隔），或 {@link #INVALIDATE_ALL} 表示全部
+     */
+    private void publishInvalidate(String message) {
+        onInvalidate(message);
+        redisClient.publish(INVALIDATE_CHANNEL, message);
+    }
+
+    /**
+     * 处理失效通知：清除本地缓存中的指定键或全部键
+     *
+     * @param message 缓存键（多个以换行分隔），或 {@link #INVALIDATE_ALL} 表示全部
+     */
+    private void onInvalidate(String message) {
+        if (INVALIDATE_ALL.equals(message)) {
+            // 可能是代数变化，同时刷新本地代数
+            generationManager.refreshAll();
+            localCache.invalidateAll();
+        } else {
+            for (String cacheKey : message.split(INVALIDATE_SEPARATOR)) {
+                localCache.invalidate(cacheKey);
+            }
+        }
+    }
+
+    // ==================== 不可变化处理 ====================
+
+    /**
+     * 把统计数据中的集合替换为不可修改集合，便于在本地缓存中共享
+     */
+    private static MatchGameStatsDTO freezeStats(MatchGameStatsDTO stats) {
+        if (stats.getLeaderboards() != null) {
+            for (MatchGameStatsDTO.Leaderboard leaderboard : stats.getLeaderboards()) {
+                leaderboard.setItems(freezeList(leaderboard.getItems()));
+            }
+            stats.setLeaderboards(freezeList(stats.getLeaderboards()));
+        }
+        return stats;
+    }
+
+    /**
+     * 把趋势数据中的集合替换为不可修改集合，便于在本地缓存中共享
+     */
+    private static MatchGameTrendDTO freezeTrend(MatchGameTrendDTO trend) {
+        trend.setDates(freezeList(trend.getDates()));
+        trend.setWinRate(freezeList(trend.getWinRate()));
+        if (trend.getPlayerMetrics() != null) {
+            Map<String, Map<String, List<Double>>> playerMetrics = new LinkedHashMap<>();
+            for (Map.Entry<String, Map<String, List<Double>>> player : trend.getPlayerMetrics().entrySet()) {
+                Map<String, List<Double>> metrics = new LinkedHashMap<>();
+                for (Map.Entry<String, List<Double>> metric : player.getValue().entrySet()) {
+                    metrics.put(metric.getKey(), freezeList(metric.getValue()));
+                }
+                playerMetrics.put(player.getKey(), Collections.unmodifiableMap(metrics));
+            }
+            trend.setPlayerMetrics(Collections.unmodifiableMap(playerMetrics));
+        }
+        return trend;
+    }
+
+    /**
+     * 把对手统计数据中的集合替换为不可修改集合，便于在本地缓存中共享
+     */
+    private static OpponentStatsDTO freezeOpponentStats(OpponentStatsDTO opponentStats) {
+        opponentStats.setOpponents(freezeList(opponentStats.getOpponents()));
+        return opponentStats;
+    }
+
+    /**
+     * 把基础数据中的集合替换为不可修改集合，便于在本地缓存中共享
+     */
+    private static MatchGameBaseDataSnapshot freezeBaseData(MatchGameBaseDataSnapshot snapshot) {
+        MatchGameBaseDataDTO data = snapshot.getData();
+        if (data != null) {
+            data.setSeasons(freezeList(data.getSeasons()));
+            data.setMyPlayerNames(freezeList(data.getMyPlayerNames()));
+            data.setOpponentPlayerNames(freezeList(data.getOpponentPlayerNames()));
+            data.setMyUserNames(freezeList(data.getMyUserNames()));
+            data.setMetricConfigs(freezeList(data.getMetricConfigs()));
+            if (data.getMatchDatesBySeason() != null) {
+                Map<String, List<String>> matchDatesBySeason = new LinkedHashMap<>();
+                for (Map.Entry<String, List<String>> season : data.getMatchDatesBySeason().entrySet()) {
+                    matchDatesBySeason.put(season.getKey(), freezeList(season.getValue()));
+                }
+                data.setMatchDatesBySeason(Collections.unmodifiableMap(matchDatesBySeason));
+            }
+        }
+        return snapshot;
+    }
+
+    private static <E> List<E> freezeList(List<E> list) {
+        return list == null ? null : Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    // ==================== 缓存条目 ====================
+
+    /**
+     * 统计数据缓存条目：统计数据 + 逻辑过期时间 + 加载耗时
+     */
+    public static class StatsCacheEntry {
+
+        /** 统计数据 */
+        private MatchGameStatsDTO value;
+
+        /** 逻辑过期时间（毫秒时间戳） */
+        private long softExpireAt;
+
+        /** 加载耗时（毫秒），用于 XFetch 提前刷新 */
+        private long computeMillis;
+
+        // Jackson反序列化需要无参构造函数
+        public StatsCacheEntry() {
+        }
+
+        public StatsCacheEntry(MatchGameStatsDTO value, long softExpireAt, long computeMillis) {
+            this.value = value;
+            this.softExpireAt = softExpireAt;
+            this.computeMillis = computeMillis;
+        }
+
+        public MatchGameStatsDTO getValue() {
+            return value;
+        }
+
+        public void setValue(MatchGameStatsDTO value) {
+            this.value = value;
+        }
+
+        public long getSoftExpireAt() {
+            return softExpireAt;
+        }
+
+        public void setSoftExpireAt(long softExpireAt) {
+            this.softExpireAt = softExpireAt;
+        }
+
+        public long getComputeMillis() {
+            return computeMillis;
+        }
+
+        public void setComputeMillis(long computeMillis) {
+            this.computeMillis = computeMillis;
+        }
     }
 
     // ==================== 通用缓存方法 ====================
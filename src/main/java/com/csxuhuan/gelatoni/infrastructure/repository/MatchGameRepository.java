@@ -1,9 +1,11 @@
 package com.csxuhuan.gelatoni.infrastructure.repository;
 
+import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.csxuhuan.gelatoni.domain.model.entity.MatchGame;
+import com.csxuhuan.gelatoni.domain.model.entity.MatchGameBaseData;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 比赛仓储接口
@@ -31,6 +33,40 @@ public interface MatchGameRepository {
      */
     MatchGame findById(Long id);
 
+    /**
+     * 根据ID查询比赛并锁定该行，直到当前事务结束
+     *
+     * <p>用于修改、删除比赛前读取旧数据，避免并发修改同一场比赛时重复冲减汇总数据。
+     *
+     * @param id 比赛ID
+     * @return 比赛（领域对象），不存在或已删除时返回 null
+     */
+    MatchGame findByIdForUpdate(Long id);
+
+    /**
+     * 根据ID集合批量查询比赛
+     *
+     * <p>ID 数量较多时按固定大小分批执行 IN 查询，避免单条 SQL 过长。
+     * 不存在或已删除的ID不会出现在结果中。
+     *
+     * @param ids 比赛ID集合
+     * @return 比赛列表（领域对象），顺序不保证
+     */
+    List<MatchGame> findByIds(Collection<Long> ids);
+
+    /**
+     * 分页查询比赛列表
+     *
+     * <p>在数据库层分页，按比赛时间倒序、ID倒序排列。
+     *
+     * @param season 赛季（可选），为空表示全部赛季
+     * @param pageNo 页码，从1开始
+     * @param pageSize 每页大小
+     * @param searchCount 是否查询总数，为 false 时不执行 COUNT，返回的总数为 0
+     * @return 比赛分页数据（领域对象）
+     */
+    IPage<MatchGame> pageMatchGames(String season, long pageNo, long pageSize, boolean searchCount);
+
     /**
      * 根据赛季查询比赛列表
      *
@@ -74,18 +110,12 @@ public interface MatchGameRepository {
     int count();
 
     /**
-     * 查询赛季列表（去重）
-     *
-     * @return 赛季列表
-     */
-    List<String> findDistinctSeasons();
-
-    /**
-     * 查询按赛季分组的比赛日期
+     * 一次查询比赛基础数据（赛季、比赛日期、我方/对方球员名称、我方用户昵称）
      *
-     * <p>游戏时间8:00-2:00，如比赛时间为2.16 1:32，返回2.15
+     * <p>赛季按数字倒序；比赛日期按赛季分组并倒序，2:00:01 之前的比赛算前一天（如 2.16 1:32 返回 2.15）；
+     * 球员名称、用户昵称去重后升序。
      *
-     * @return Map<赛季, 日期列表>，日期倒序
+     * @return 比赛基础数据
      */
-    Map<String, List<String>> findMatchDatesBySeason();
-}
\ No newline at end of file
+    MatchGameBaseData findBaseData();
+}
@@ -1,8 +1,11 @@
 package com.csxuhuan.gelatoni.infrastructure.repository;
 
+import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerGameStats;
 import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerStats;
+import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerStatsSummary;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 比赛球员统计仓储接口
@@ -24,17 +27,32 @@ public interface MatchPlayerStatsRepository {
     List<MatchPlayerStats> findByMatchId(Long matchId);
 
     /**
-     * 查询我方球员统计明细（用于数据统计聚合）
+     * 流式读取我方球员统计明细（用于数据统计聚合）
      *
-     * <p>只统计我方数据（team_type=1）。
-     * season 为空/空字符串时表示全赛季。
+     * <p>只统计我方数据（team_type=1），season 为空/空字符串时表示全赛季。
+     * 不返回列表，每读取一行就转换为领域对象交给 consumer，调用方在 consumer 中完成累加。
      *
      * @param season 赛季（可选）
      * @param excludeRobot 是否排除机器人
      * @param matchDate 比赛日期（可选），格式：yyyy-MM-dd，游戏时间8:00-2:00
-     * @return 我方球员统计明细列表
+     * @param consumer 逐行处理器
      */
-    List<MatchPlayerStats> findMyPlayerStatsForStats(String season, Boolean excludeRobot, String matchDate);
+    void streamMyPlayerStatsForStats(String season, Boolean excludeRobot, String matchDate,
+                                     Consumer<MatchPlayerStats> consumer);
+
+    /**
+     * 在数据库中按名称分组聚合我方球员数据（用于数据统计聚合）
+     *
+     * <p>每个球员名称（或用户昵称）只返回一行累计值，汇总维度字段（赛季、日期等）为空。
+     * 筛选条件与 {@link #streamMyPlayerStatsForStats} 一致。
+     *
+     * @param byUser true=按用户昵称分组，false=按球员名称分组
+     * @param season 赛季（可选）
+     * @param excludeRobot 是否排除机器人
+     * @param matchDate 比赛日期（可选），格式：yyyy-MM-dd，游戏时间8:00-2:00
+     * @return 每个名称一行的聚合结果
+     */
+    List<MatchPlayerStatsSummary> aggregateMyPlayerStats(boolean byUser, String season, Boolean excludeRobot, String matchDate);
 
     /**
      * 批量新增球员统计数据
@@ -55,29 +73,27 @@ public interface MatchPlayerStatsRepository {
     int deleteByMatchId(Long matchId, Long modifier);
 
     /**
-     * 查询球员名称列表（去重）
+     * 查询对方球员统计明细（用于对手统计）
      *
-     * @param teamType 队伍类型：1=我方，2=对方
-     * @return 球员名称列表
-     */
-    List<String> findDistinctPlayerNames(Integer teamType);
-
-    /**
-     * 查询我方用户昵称列表（去重）
+     * <p>只统计对方数据（team_type=2）。
+     * season 为空/空字符串时表示全赛季。
      *
-     * @return 我方用户昵称列表
+     * @param season 赛季（可选）
+     * @param excludeRobot 是否排除机器人
+     * @return 对方球员统计明细列表
      */
-    List<String> findDistinctMyUserNames();
+    List<MatchPlayerStats> findOpponentPlayerStatsForStats(String season, Boolean excludeRobot);
 
     /**
-     * 查询对方球员统计明细（用于对手统计）
+     * 查询球员统计数据及其所属比赛信息（单次关联查询）
      *
-     * <p>只统计对方数据（team_type=2）。
+     * <p>每条记录带有比赛时间、结果和比分，调用方无需再按比赛ID逐条查询比赛。
      * season 为空/空字符串时表示全赛季。
      *
+     * @param teamType 队伍类型：1=我方，2=对方
      * @param season 赛季（可选）
      * @param excludeRobot 是否排除机器人
-     * @return 对方球员统计明细列表
+     * @return 球员比赛数据列表
      */
-    List<MatchPlayerStats> findOpponentPlayerStatsForStats(String season, Boolean excludeRobot);
-}
\ No newline at end of file
+    List<MatchPlayerGameStats> findPlayerGameStats(Integer teamType, String season, Boolean excludeRobot);
+}
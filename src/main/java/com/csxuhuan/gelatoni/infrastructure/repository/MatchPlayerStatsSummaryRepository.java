@@ -0,0 +1,38 @@
+package com.csxuhuan.gelatoni.infrastructure.repository;
+
+import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerStatsSummary;
+
+import java.util.List;
+
+/**
+ * 我方球员按日汇总统计仓储接口
+ *
+ * 约定：
+ * - Repository 内部使用 DO + MyBatis-Plus
+ * - 对外只返回领域对象 MatchPlayerStatsSummary
+ *
+ * @author Gelatoni
+ */
+public interface MatchPlayerStatsSummaryRepository {
+
+    /**
+     * 批量累加汇总增量（不存在则插入，存在则相加）
+     *
+     * @param deltas 增量列表，各字段可为负数
+     * @return 受影响行数
+     */
+    int applyDeltas(List<MatchPlayerStatsSummary> deltas);
+
+    /**
+     * 查询汇总数据（用于数据统计榜单）
+     *
+     * <p>只返回上场次数大于 0 的汇总行。
+     * season 为空/空字符串时表示全赛季。
+     *
+     * @param season 赛季（可选）
+     * @param excludeRobot 是否排除机器人
+     * @param matchDate 游戏日期（可选），格式：yyyy-MM-dd
+     * @return 汇总数据列表
+     */
+    List<MatchPlayerStatsSummary> findForStats(String season, Boolean excludeRobot, String matchDate);
+}
@@ -3,6 +3,9 @@ package com.csxuhuan.gelatoni.infrastructure.repository;
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.csxuhuan.gelatoni.domain.model.entity.Notice;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * 公告仓储接口
  *
@@ -21,6 +24,26 @@ public interface NoticeRepository {
      */
     IPage<Notice> pageNotices(long pageNo, long pageSize);
 
+    /**
+     * 按游标查询公告（键集分页）
+     *
+     * <p>按 create_time DESC, id DESC 排序，返回排在游标之后的公告。
+     * 游标为空时从第一条开始。
+     *
+     * @param cursorCreateTime 游标公告的创建时间，可为空
+     * @param cursorId         游标公告的ID，可为空
+     * @param limit            最多返回条数
+     * @return 公告列表（领域对象）
+     */
+    List<Notice> listNoticesBefore(LocalDateTime cursorCreateTime, Long cursorId, int limit);
+
+    /**
+     * 统计未删除的公告总数
+     *
+     * @return 公告总数
+     */
+    long countNotices();
+
     /**
      * 新增公告
      *
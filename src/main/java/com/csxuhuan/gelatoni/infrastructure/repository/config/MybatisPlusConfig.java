@@ -0,0 +1,30 @@
+package com.csxuhuan.gelatoni.infrastructure.repository.config;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.extension.plugins.PaginationInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * MyBatis-Plus 配置类
+ *
+ * <p>注册分页插件，使 selectPage 在数据库层执行 LIMIT 分页和 COUNT 统计，
+ * 而不是查询全表后在内存中截取。
+ *
+ * @author Gelatoni
+ */
+@Configuration
+public class MybatisPlusConfig {
+
+    /**
+     * 分页插件
+     *
+     * @return MySQL 方言的分页拦截器
+     */
+    @Bean
+    public PaginationInterceptor paginationInterceptor() {
+        PaginationInterceptor interceptor = new PaginationInterceptor();
+        interceptor.setDbType(DbType.MYSQL);
+        return interceptor;
+    }
+}
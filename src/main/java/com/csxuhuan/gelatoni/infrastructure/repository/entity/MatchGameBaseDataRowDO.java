@@ -0,0 +1,45 @@
+package com.csxuhuan.gelatoni.infrastructure.repository.entity;
+
+/**
+ * 比赛基础数据查询结果对象
+ *
+ * <p>一次 UNION ALL 查询返回赛季、比赛日期、球员名称、用户昵称等去重值，
+ * 每行用 kind 区分类别，不对应实际数据表。
+ *
+ * @author Gelatoni
+ */
+public class MatchGameBaseDataRowDO {
+
+    /** 类别：season / date / my_player / opp_player / my_user */
+    private String kind;
+
+    /** 值：赛季、名称；date 类别为赛季 */
+    private String value;
+
+    /** 附加值：date 类别为游戏日期（yyyy-MM-dd），其他类别为空 */
+    private String extra;
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public String getExtra() {
+        return extra;
+    }
+
+    public void setExtra(String extra) {
+        this.extra = extra;
+    }
+}
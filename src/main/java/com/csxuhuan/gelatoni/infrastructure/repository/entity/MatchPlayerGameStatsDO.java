@@ -0,0 +1,173 @@
+package com.csxuhuan.gelatoni.infrastructure.repository.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 球员比赛数据（含比赛信息）查询结果对象
+ *
+ * <p>match_player_stats 与 match_game 关联查询的投影结果，不对应实际数据表，
+ * 列名按驼峰规则自动映射。
+ *
+ * @author Gelatoni
+ */
+public class MatchPlayerGameStatsDO {
+
+    /** 关联比赛ID */
+    private Long matchId;
+
+    /** 队伍类型：1=我方，2=对方 */
+    private Integer teamType;
+
+    /** 使用人昵称 */
+    private String userName;
+
+    /** 使用球员名称 */
+    private String playerName;
+
+    /** 比赛评分 */
+    private Double rating;
+
+    /** 得分 */
+    private Integer score;
+
+    /** 篮板 */
+    private Integer rebound;
+
+    /** 助攻 */
+    private Integer assist;
+
+    /** 抢断 */
+    private Integer steal;
+
+    /** 盖帽 */
+    private Integer block;
+
+    /** 比赛时间 */
+    private LocalDateTime matchTime;
+
+    /** 比赛结果：true=胜 */
+    private Boolean result;
+
+    /** 我方得分 */
+    private Integer myScore;
+
+    /** 对方得分 */
+    private Integer oppScore;
+
+    // 构造函数
+    public MatchPlayerGameStatsDO() {
+    }
+
+    // Getter 和 Setter
+    public Long getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(Long matchId) {
+        this.matchId = matchId;
+    }
+
+    public Integer getTeamType() {
+        return teamType;
+    }
+
+    public void setTeamType(Integer teamType) {
+        this.teamType = teamType;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public void setUserName(String userName) {
+        this.userName = userName;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public void setPlayerName(String playerName) {
+        this.playerName = playerName;
+    }
+
+    public Double getRating() {
+        return rating;
+    }
+
+    public void setRating(Double rating) {
+        this.rating = rating;
+    }
+
+    public Integer getScore() {
+        return score;
+    }
+
+    public void setScore(Integer score) {
+        this.score = score;
+    }
+
+    public Integer getRebound() {
+        return rebound;
+    }
+
+    public void setRebound(Integer rebound) {
+        this.rebound = rebound;
+    }
+
+    public Integer getAssist() {
+        return assist;
+    }
+
+    public void setAssist(Integer assist) {
+        this.assist = assist;
+    }
+
+    public Integer getSteal() {
+        return steal;
+    }
+
+    public void setSteal(Integer steal) {
+        this.steal = steal;
+    }
+
+    public Integer getBlock() {
+        return block;
+    }
+
+    public void setBlock(Integer block) {
+        this.block = block;
+    }
+
+    public LocalDateTime getMatchTime() {
+        return matchTime;
+    }
+
+    public void setMatchTime(LocalDateTime matchTime) {
+        this.matchTime = matchTime;
+    }
+
+    public Boolean getResult() {
+        return result;
+    }
+
+    public void setResult(Boolean result) {
+        this.result = result;
+    }
+
+    public Integer getMyScore() {
+        return myScore;
+    }
+
+    public void setMyScore(Integer myScore) {
+        this.myScore = myScore;
+    }
+
+    public Integer getOppScore() {
+        return oppScore;
+    }
+
+    public void setOppScore(Integer oppScore) {
+        this.oppScore = oppScore;
+    }
+}
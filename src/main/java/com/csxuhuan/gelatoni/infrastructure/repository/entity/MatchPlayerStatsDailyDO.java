@@ -0,0 +1,290 @@
+package com.csxuhuan.gelatoni.infrastructure.repository.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableField;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 我方球员按日汇总统计表数据库对象
+ *
+ * <p>按（赛季、游戏日期、是否机器人、使用人、球员）唯一键累加的我方球员数据，
+ * 由比赛写入时增量维护，不做软删除。
+ *
+ * @author Gelatoni
+ */
+@TableName(value = "match_player_stats_daily")
+public class MatchPlayerStatsDailyDO {
+
+    /** 汇总记录ID */
+    @TableId(type = IdType.AUTO)
+    private Long id;
+
+    /** 赛季 */
+    @TableField("season")
+    private String season;
+
+    /** 游戏日期（0:00-8:00 的比赛归属前一天） */
+    @TableField("game_date")
+    private LocalDate gameDate;
+
+    /** 是否机器人比赛 */
+    @TableField("is_robot")
+    private Boolean isRobot;
+
+    /** 使用人昵称，空值存为空字符串 */
+    @TableField("user_name")
+    private String userName;
+
+    /** 使用球员名称，空值存为空字符串 */
+    @TableField("player_name")
+    private String playerName;
+
+    /** 上场次数 */
+    @TableField("appearances")
+    private Integer appearances;
+
+    /** 得分 */
+    @TableField("score")
+    private Integer score;
+
+    /** 篮板 */
+    @TableField("rebound")
+    private Integer rebound;
+
+    /** 助攻 */
+    @TableField("assist")
+    private Integer assist;
+
+    /** 抢断 */
+    @TableField("steal")
+    private Integer steal;
+
+    /** 盖帽 */
+    @TableField("block")
+    private Integer block;
+
+    /** 失误 */
+    @TableField("turnover")
+    private Integer turnover;
+
+    /** 投篮尝试数 */
+    @TableField("fg_attempt")
+    private Integer fgAttempt;
+
+    /** 投篮命中数 */
+    @TableField("fg_made")
+    private Integer fgMade;
+
+    /** 三分尝试数 */
+    @TableField("three_attempt")
+    private Integer threeAttempt;
+
+    /** 三分命中数 */
+    @TableField("three_made")
+    private Integer threeMade;
+
+    /** MVP次数 */
+    @TableField("mvp_count")
+    private Integer mvpCount;
+
+    /** SVP次数 */
+    @TableField("svp_count")
+    private Integer svpCount;
+
+    /** 评分累计值 */
+    @TableField("rating_sum")
+    private Double ratingSum;
+
+    /** 记录创建时间 */
+    @TableField("create_time")
+    private LocalDateTime createTime;
+
+    /** 记录更新时间 */
+    @TableField("modified_time")
+    private LocalDateTime modifiedTime;
+
+    // 构造函数
+    public MatchPlayerStatsDailyDO() {
+    }
+
+    // Getter 和 Setter
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getSeason() {
+        return season;
+    }
+
+    public void setSeason(String season) {
+        this.season = season;
+    }
+
+    public LocalDate getGameDate() {
+        return gameDate;
+    }
+
+    public void setGameDate(LocalDate gameDate) {
+        this.gameDate = gameDate;
+    }
+
+    public Boolean getIsRobot() {
+        return isRobot;
+    }
+
+    public void setIsRobot(Boolean isRobot) {
+        this.isRobot = isRobot;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public void setUserName(String userName) {
+        this.userName = userName;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public void setPlayerName(String playerName) {
+        this.playerName = playerName;
+    }
+
+    public Integer getAppearances() {
+        return appearances;
+    }
+
+    public void setAppearances(Integer appearances) {
+        this.appearances = appearances;
+    }
+
+    public Integer getScore() {
+        return score;
+    }
+
+    public void setScore(Integer score) {
+        this.score = score;
+    }
+
+    public Integer getRebound() {
+        return rebound;
+    }
+
+    public void setRebound(Integer rebound) {
+        this.rebound = rebound;
+    }
+
+    public Integer getAssist() {
+        return assist;
+    }
+
+    public void setAssist(Integer assist) {
+        this.assist = assist;
+    }
+
+    public Integer getSteal() {
+        return steal;
+    }
+
+    public void setSteal(Integer steal) {
+        this.steal = steal;
+    }
+
+    public Integer getBlock() {
+        return block;
+    }
+
+    public void setBlock(Integer block) {
+        this.block = block;
+    }
+
+    public Integer getTurnover() {
+        return turnover;
+    }
+
+    public void setTurnover(Integer turnover) {
+        this.turnover = turnover;
+    }
+
+    public Integer getFgAttempt() {
+        return fgAttempt;
+    }
+
+    public void setFgAttempt(Integer fgAttempt) {
+        this.fgAttempt = fgAttempt;
+    }
+
+    public Integer getFgMade() {
+        return fgMade;
+    }
+
+    public void setFgMade(Integer fgMade) {
+        this.fgMade = fgMade;
+    }
+
+    public Integer getThreeAttempt() {
+        return threeAttempt;
+    }
+
+    public void setThreeAttempt(Integer threeAttempt) {
+        this.threeAttempt = threeAttempt;
+    }
+
+    public Integer getThreeMade() {
+        return threeMade;
+    }
+
+    public void setThreeMade(Integer threeMade) {
+        this.threeMade = threeMade;
+    }
+
+    public Integer getMvpCount() {
+        return mvpCount;
+    }
+
+    public void setMvpCount(Integer mvpCount) {
+        this.mvpCount = mvpCount;
+    }
+
+    public Integer getSvpCount() {
+        return svpCount;
+    }
+
+    public void setSvpCount(Integer svpCount) {
+        this.svpCount = svpCount;
+    }
+
+    public Double getRatingSum() {
+        return ratingSum;
+    }
+
+    public void setRatingSum(Double ratingSum) {
+        this.ratingSum = ratingSum;
+    }
+
+    public LocalDateTime getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(LocalDateTime createTime) {
+        this.createTime = createTime;
+    }
+
+    public LocalDateTime getModifiedTime() {
+        return modifiedTime;
+    }
+
+    public void setModifiedTime(LocalDateTime modifiedTime) {
+        this.modifiedTime = modifiedTime;
+    }
+}
@@ -1,17 +1,19 @@
 package com.csxuhuan.gelatoni.infrastructure.repository.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.csxuhuan.gelatoni.domain.model.common.DeletedEnum;
 import com.csxuhuan.gelatoni.domain.model.entity.MatchGame;
+import com.csxuhuan.gelatoni.domain.model.entity.MatchGameBaseData;
 import com.csxuhuan.gelatoni.domain.model.converter.MatchGameConverter;
 import com.csxuhuan.gelatoni.infrastructure.repository.MatchGameRepository;
+import com.csxuhuan.gelatoni.infrastructure.repository.entity.MatchGameBaseDataRowDO;
 import com.csxuhuan.gelatoni.infrastructure.repository.entity.MatchGameDO;
 import com.csxuhuan.gelatoni.infrastructure.repository.mapper.MatchGameMapper;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -23,6 +25,13 @@ import java.util.stream.Collectors;
 @Repository
 public class MatchGameRepositoryImpl implements MatchGameRepository {
 
+    /** 批量查询时单条 IN 语句的最大ID数量 */
+    private static final int IN_BATCH_SIZE = 500;
+
+    /** 赛季排序：按赛季数字倒序（S12, S11, ...） */
+    private static final Comparator<String> SEASON_DESC =
+            Comparator.comparing((String season) -> Integer.parseInt(season.substring(1))).reversed();
+
     private final MatchGameMapper matchGameMapper;
 
     public MatchGameRepositoryImpl(MatchGameMapper matchGameMapper) {
@@ -56,6 +65,72 @@ public class MatchGameRepositoryImpl implements MatchGameRepository {
         return MatchGameConverter.toDomain(matchGameDO);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MatchGame findByIdForUpdate(Long id) {
+        return MatchGameConverter.toDomain(matchGameMapper.selectByIdForUpdate(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<MatchGame> findByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        List<MatchGame> result = new ArrayList<>(distinctIds.size());
+        for (int from = 0; from < distinctIds.size(); from += IN_BATCH_SIZE) {
+            List<Long> batch = distinctIds.subList(from, Math.min(from + IN_BATCH_SIZE, distinctIds.size()));
+            LambdaQueryWrapper<MatchGameDO> wrapper = Wrappers.lambdaQuery();
+            wrapper.in(MatchGameDO::getId, batch)
+                    .eq(MatchGameDO::getIsDeleted, DeletedEnum.NOT_DELETED.getValue());
+            matchGameMapper.selectList(wrapper).stream()
+                    .map(MatchGameConverter::toDomain)
+                    .forEach(result::add);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IPage<MatchGame> pageMatchGames(String season, long pageNo, long pageSize, boolean searchCount) {
+
+        // MyBatis-Plus 约束：Page 泛型必须是 DO 类型
+        Page<MatchGameDO> page = new Page<>(pageNo, pageSize, searchCount);
+
+        LambdaQueryWrapper<MatchGameDO> wrapper = Wrappers.lambdaQuery();
+        wrapper.eq(MatchGameDO::getIsDeleted, DeletedEnum.NOT_DELETED.getValue());
+        if (season != null && !season.isEmpty()) {
+            wrapper.eq(MatchGameDO::getSeason, season);
+        }
+        wrapper.orderByDesc(MatchGameDO::getMatchTime)
+                .orderByDesc(MatchGameDO::getId);
+
+        // 执行分页查询（由分页插件生成 LIMIT，需要时生成 COUNT）
+        IPage<MatchGameDO> doPage = matchGameMapper.selectPage(page, wrapper);
+
+        // 构造领域分页对象
+        Page<MatchGame> domainPage = new Page<>(
+                doPage.getCurrent(),
+                doPage.getSize(),
+                doPage.getTotal()
+        );
+        domainPage.setRecords(doPage.getRecords().stream()
+                .map(MatchGameConverter::toDomain)
+                .collect(Collectors.toList()));
+        return domainPage;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -140,65 +215,42 @@ public class MatchGameRepositoryImpl implements MatchGameRepository {
     }
 
     @Override
-    public List<String> findDistinctSeasons() {
-        LambdaQueryWrapper<MatchGameDO> wrapper = Wrappers.lambdaQuery();
-        wrapper.eq(MatchGameDO::getIsDeleted, DeletedEnum.NOT_DELETED.getValue())
-                .isNotNull(MatchGameDO::getSeason)
-                .ne(MatchGameDO::getSeason, "")
-                .select(MatchGameDO::getSeason)
-                .groupBy(MatchGameDO::getSeason);
+    public MatchGameBaseData findBaseData() {
+        List<String> seasons = new ArrayList<>();
+        List<String> myPlayerNames = new ArrayList<>();
+        List<String> opponentPlayerNames = new ArrayList<>();
+        List<String> myUserNames = new ArrayList<>();
+        Map<String, List<String>> datesBySeason = new HashMap<>();
 
-        return matchGameMapper.selectList(wrapper).stream()
-                .map(MatchGameDO::getSeason)
-                .filter(Objects::nonNull)
-                .sorted((s1, s2) -> {
-                    Integer n1 = Integer.parseInt(s1.substring(1));
-                    Integer n2 = Integer.parseInt(s2.substring(1));
-                    return n2.compareTo(n1);
-                })
-                .collect(Collectors.toList());
-    }
+        // 结果已按类别、值升序，日期倒序，按类别分拣即可保持顺序
+        for (MatchGameBaseDataRowDO row : matchGameMapper.selectBaseDataRows()) {
+            switch (row.getKind()) {
+                case "season":
+                    seasons.add(row.getValue());
+                    break;
+                case "date":
+                    datesBySeason.computeIfAbsent(row.getValue(), k -> new ArrayList<>()).add(row.getExtra());
+                    break;
+                case "my_player":
+                    myPlayerNames.add(row.getValue());
+                    break;
+                case "opp_player":
+                    opponentPlayerNames.add(row.getValue());
+                    break;
+                case "my_user":
+                    myUserNames.add(row.getValue());
+                    break;
+                default:
+                    break;
+            }
+        }
 
-    @Override
-    public Map<String, List<String>> findMatchDatesBySeason() {
-        LambdaQueryWrapper<MatchGameDO> wrapper = Wrappers.lambdaQuery();
-        wrapper.eq(MatchGameDO::getIsDeleted, DeletedEnum.NOT_DELETED.getValue())
-                .isNotNull(MatchGameDO::getSeason)
-                .ne(MatchGameDO::getSeason, "")
-                .isNotNull(MatchGameDO::getMatchTime)
-                .orderByDesc(MatchGameDO::getMatchTime);
+        seasons.sort(SEASON_DESC);
+        Map<String, List<String>> matchDatesBySeason = new LinkedHashMap<>();
+        datesBySeason.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(SEASON_DESC))
+                .forEach(entry -> matchDatesBySeason.put(entry.getKey(), entry.getValue()));
 
-        Map<String, List<String>> result = matchGameMapper.selectList(wrapper).stream()
-                .collect(Collectors.groupingBy(
-                        MatchGameDO::getSeason,
-                        LinkedHashMap::new,
-                        Collectors.mapping(
-                                game -> {
-                                    LocalDateTime matchTime = game.getMatchTime();
-                                    if (matchTime.toLocalTime().isBefore(LocalTime.of(2, 0, 1))) {
-                                        return matchTime.minusDays(1).toLocalDate().toString();
-                                    }
-                                    return matchTime.toLocalDate().toString();
-                                },
-                                Collectors.collectingAndThen(
-                                        Collectors.toList(),
-                                        list -> list.stream().distinct().collect(Collectors.toList())
-                                )
-                        )
-                ));
-
-        // 按赛季数字倒序排序
-        return result.entrySet().stream()
-                .sorted((e1, e2) -> {
-                    Integer n1 = Integer.parseInt(e1.getKey().substring(1));
-                    Integer n2 = Integer.parseInt(e2.getKey().substring(1));
-                    return n2.compareTo(n1);
-                })
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (e1, e2) -> e1,
-                        LinkedHashMap::new
-                ));
+        return new MatchGameBaseData(seasons, myPlayerNames, opponentPlayerNames, myUserNames, matchDatesBySeason);
     }
-}
\ No newline at end of file
+}
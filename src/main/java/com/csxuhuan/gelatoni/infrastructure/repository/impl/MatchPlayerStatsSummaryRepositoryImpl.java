@@ -0,0 +1,77 @@
+package com.csxuhuan.gelatoni.infrastructure.repository.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.csxuhuan.gelatoni.domain.model.converter.MatchPlayerStatsSummaryConverter;
+import com.csxuhuan.gelatoni.domain.model.entity.MatchPlayerStatsSummary;
+import com.csxuhuan.gelatoni.infrastructure.repository.MatchPlayerStatsSummaryRepository;
+import com.csxuhuan.gelatoni.infrastructure.repository.entity.MatchPlayerStatsDailyDO;
+import com.csxuhuan.gelatoni.infrastructure.repository.mapper.MatchPlayerStatsDailyMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 我方球员按日汇总统计仓储实现类
+ *
+ * @author Gelatoni
+ */
+@Repository
+public class MatchPlayerStatsSummaryRepositoryImpl implements MatchPlayerStatsSummaryRepository {
+
+    private final MatchPlayerStatsDailyMapper matchPlayerStatsDailyMapper;
+
+    public MatchPlayerStatsSummaryRepositoryImpl(MatchPlayerStatsDailyMapper matchPlayerStatsDailyMapper) {
+        this.matchPlayerStatsDailyMapper = matchPlayerStatsDailyMapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int applyDeltas(List<MatchPlayerStatsSummary> deltas) {
+        if (deltas == null || deltas.isEmpty()) {
+            return 0;
+        }
+        List<MatchPlayerStatsDailyDO> deltaDOList = deltas.stream()
+                .map(MatchPlayerStatsSummaryConverter::toDO)
+                .collect(Collectors.toList());
+        return matchPlayerStatsDailyMapper.upsertDeltas(deltaDOList);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<MatchPlayerStatsSummary> findForStats(String season, Boolean excludeRobot, String matchDate) {
+        LambdaQueryWrapper<MatchPlayerStatsDailyDO> wrapper = Wrappers.lambdaQuery();
+        // 增量冲减后可能残留上场次数为 0 的行，统计时忽略
+        wrapper.gt(MatchPlayerStatsDailyDO::getAppearances, 0);
+
+        // 如果提供了赛季，则按赛季过滤
+        if (season != null && !season.isEmpty()) {
+            wrapper.eq(MatchPlayerStatsDailyDO::getSeason, season);
+        }
+
+        // 如果excludeRobot = true，则排除机器人比赛(is_robot = 1)
+        if (Boolean.TRUE.equals(excludeRobot)) {
+            wrapper.eq(MatchPlayerStatsDailyDO::getIsRobot, false);
+        }
+
+        // 如果提供了比赛日期，则按游戏日期过滤；无游戏日期的汇总行只在不按日期筛选时读取
+        if (matchDate != null && !matchDate.isEmpty()) {
+            LocalDate gameDate = LocalDate.parse(matchDate);
+            if (MatchPlayerStatsSummary.UNDATED_GAME_DATE.equals(gameDate)) {
+                return Collections.emptyList();
+            }
+            wrapper.eq(MatchPlayerStatsDailyDO::getGameDate, gameDate);
+        }
+
+        return matchPlayerStatsDailyMapper.selectList(wrapper).stream()
+                .map(MatchPlayerStatsSummaryConverter::toDomain)
+                .collect(Collectors.toList());
+    }
+}
@@ -1,6 +1,7 @@
 package com.csxuhuan.gelatoni.infrastructure.repository.impl;
 
 import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.csxuhuan.gelatoni.domain.model.common.DeletedEnum;
@@ -48,9 +49,8 @@ public class NoticeRepositoryImpl implements NoticeRepository {
      *
      * <p>实现说明：
      * <ol>
-     *     <li>使用 MyBatis-Plus 的 Page 对象执行分页查询</li>
+     *     <li>使用 MyBatis-Plus 的 Page 对象执行分页查询，由数据库按 create_time DESC, id DESC 排序</li>
      *     <li>将查询结果的 DO 列表转换为领域对象列表</li>
-     *     <li>按创建时间倒序排序</li>
      *     <li>封装为领域层的分页对象返回</li>
      * </ol>
      */
@@ -60,17 +60,17 @@ public class NoticeRepositoryImpl implements NoticeRepository {
         // MyBatis-Plus 约束：Page 泛型必须是 DO 类型
         Page<NoticeDO> page = new Page<>(pageNo, pageSize);
 
-        LambdaUpdateWrapper<NoticeDO> wrapper = new LambdaUpdateWrapper<>();
-        wrapper.eq(NoticeDO::getIsDeleted, DeletedEnum.NOT_DELETED.getValue());
+        LambdaQueryWrapper<NoticeDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(NoticeDO::getIsDeleted, DeletedEnum.NOT_DELETED.getValue())
+                .orderByDesc(NoticeDO::getCreateTime, NoticeDO::getId);
 
         // 执行分页查询
         IPage<NoticeDO> doPage = noticeMapper.selectPage(page, wrapper);
 
-        // DO → Domain 转换，并按时间倒序排列
+        // DO → Domain 转换
         List<Notice> notices = doPage.getRecords()
                 .stream()
                 .map(NoticeConverter::toDomain)
-                .sorted((a, b) -> b.getCreateTime().compareTo(a.getCreateTime()))
                 .collect(Collectors.toList());
 
         // 构造领域分页对象
@@ -84,6 +84,39 @@ public class NoticeRepositoryImpl implements NoticeRepository {
         return domainPage;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>实现说明：键集分页，条件为 (create_time, id) &lt; (游标时间, 游标ID)，
+     * 配合索引 (is_deleted, create_time, id) 只扫描需要的行，与翻页深度无关。
+     */
+    @Override
+    public List<Notice> listNoticesBefore(LocalDateTime cursorCreateTime, Long cursorId, int limit) {
+        LambdaQueryWrapper<NoticeDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(NoticeDO::getIsDeleted, DeletedEnum.NOT_DELETED.getValue());
+        if (cursorCreateTime != null && cursorId != null) {
+            wrapper.and(w -> w.lt(NoticeDO::getCreateTime, cursorCreateTime)
+                    .or(o -> o.eq(NoticeDO::getCreateTime, cursorCreateTime).lt(NoticeDO::getId, cursorId)));
+        }
+        wrapper.orderByDesc(NoticeDO::getCreateTime, NoticeDO::getId)
+                .last("LIMIT " + limit);
+
+        return noticeMapper.selectList(wrapper)
+                .stream()
+                .map(NoticeConverter::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countNotices() {
+        LambdaQueryWrapper<NoticeDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(NoticeDO::getIsDeleted, DeletedEnum.NOT_DELETED.getValue());
+        return noticeMapper.selectCount(wrapper);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,8 +1,13 @@
 package com.csxuhuan.gelatoni.infrastructure.repository.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.csxuhuan.gelatoni.infrastructure.repository.entity.MatchGameBaseDataRowDO;
 import com.csxuhuan.gelatoni.infrastructure.repository.entity.MatchGameDO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.List;
 
 /**
  * MatchGameMapper
@@ -12,4 +17,59 @@ import org.apache.ibatis.annotations.Mapper;
  */
 @Mapper
 public interface MatchGameMapper extends BaseMapper<MatchGameDO> {
-}
\ No newline at end of file
+
+    /**
+     * 根据ID查询未删除的比赛并加行锁（SELECT ... FOR UPDATE）
+     *
+     * <p>必须在事务中调用，锁在事务结束时释放。
+     * 同一场比赛的并发修改、删除在此排队，后执行的事务读到的是前一个事务提交后的数据。
+     *
+     * @param id 比赛ID
+     * @return 比赛DO，不存在或已删除时返回 null
+     */
+    @Select("SELECT * FROM match_game WHERE id = #{id} AND is_deleted = 0 FOR UPDATE")
+    MatchGameDO selectByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 一次查询比赛基础数据的全部去重值
+     *
+     * <p>各分支只投影需要的列并在数据库中去重：
+     * <ul>
+     *     <li>season：赛季</li>
+     *     <li>date：赛季 + 游戏日期（2:00:01 之前的比赛算前一天，其余算当天，每场比赛都有日期）</li>
+     *     <li>my_player / opp_player：我方 / 对方球员名称</li>
+     *     <li>my_user：我方用户昵称</li>
+     * </ul>
+     * 结果按类别、值升序，日期倒序排列。
+     *
+     * @return 基础数据行
+     */
+    @Select({"<script>",
+            "SELECT 'season' AS kind, season AS value, NULL AS extra",
+            "FROM match_game",
+            "WHERE is_deleted = 0 AND season IS NOT NULL AND season != ''",
+            "GROUP BY season",
+            "UNION ALL",
+            "SELECT 'date', season, DATE_FORMAT(DATE_SUB(match_time, INTERVAL '2:0:1' HOUR_SECOND), '%Y-%m-%d') AS game_date",
+            "FROM match_game",
+            "WHERE is_deleted = 0 AND season IS NOT NULL AND season != '' AND match_time IS NOT NULL",
+            "GROUP BY season, game_date",
+            "UNION ALL",
+            "SELECT 'my_player', player_name, NULL",
+            "FROM match_player_stats",
+            "WHERE team_type = 1 AND is_deleted = 0 AND player_name IS NOT NULL AND player_name != ''",
+            "GROUP BY player_name",
+            "UNION ALL",
+            "SELECT 'opp_player', player_name, NULL",
+            "FROM match_player_stats",
+            "WHERE team_type = 2 AND is_deleted = 0 AND player_name IS NOT NULL AND player_name != ''",
+            "GROUP BY player_name",
+            "UNION ALL",
+            "SELECT 'my_user', user_name, NULL",
+            "FROM match_player_stats",
+            "WHERE team_type = 1 AND is_deleted = 0 AND user_name IS NOT NULL AND user_name != ''",
+            "GROUP BY user_name",
+            "ORDER BY kind, value, extra DESC",
+            "</script>"})
+    List<MatchGameBaseDataRowDO> selectBaseDataRows();
+}
@@ -0,0 +1,55 @@
+package com.csxuhuan.gelatoni.infrastructure.repository.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.csxuhuan.gelatoni.infrastructure.repository.entity.MatchPlayerStatsDailyDO;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * MatchPlayerStatsDailyMapper
+ * MyBatis-Plus Mapper，提供 CRUD 接口及汇总增量写入
+ *
+ * @author Gelatoni
+ */
+@Mapper
+public interface MatchPlayerStatsDailyMapper extends BaseMapper<MatchPlayerStatsDailyDO> {
+
+    /**
+     * 按唯一键批量累加增量
+     *
+     * <p>唯一键（season, game_date, is_robot, user_name, player_name）不存在时插入，
+     * 存在时将各字段与增量相加。增量可以为负数，用于冲减已删除/已修改的比赛数据。
+     *
+     * @param deltas 增量列表
+     * @return 受影响行数
+     */
+    @Insert({"<script>",
+            "INSERT INTO match_player_stats_daily (season, game_date, is_robot, user_name, player_name,",
+            " appearances, score, rebound, assist, steal, block, turnover,",
+            " fg_attempt, fg_made, three_attempt, three_made, mvp_count, svp_count, rating_sum) VALUES",
+            "<foreach collection='deltas' item='d' separator=','>",
+            "(#{d.season}, #{d.gameDate}, #{d.isRobot}, #{d.userName}, #{d.playerName},",
+            " #{d.appearances}, #{d.score}, #{d.rebound}, #{d.assist}, #{d.steal}, #{d.block}, #{d.turnover},",
+            " #{d.fgAttempt}, #{d.fgMade}, #{d.threeAttempt}, #{d.threeMade}, #{d.mvpCount}, #{d.svpCount}, #{d.ratingSum})",
+            "</foreach>",
+            " ON DUPLICATE KEY UPDATE",
+            " appearances = appearances + VALUES(appearances),",
+            " score = score + VALUES(score),",
+            " rebound = rebound + VALUES(rebound),",
+            " assist = assist + VALUES(assist),",
+            " steal = steal + VALUES(steal),",
+            " block = block + VALUES(block),",
+            " turnover = turnover + VALUES(turnover),",
+            " fg_attempt = fg_attempt + VALUES(fg_attempt),",
+            " fg_made = fg_made + VALUES(fg_made),",
+            " three_attempt = three_attempt + VALUES(three_attempt),",
+            " three_made = three_made + VALUES(three_made),",
+            " mvp_count = mvp_count + VALUES(mvp_count),",
+            " svp_count = svp_count + VALUES(svp_count),",
+            " rating_sum = rating_sum + VALUES(rating_sum)",
+            "</script>"})
+    int upsertDeltas(@Param("deltas") List<MatchPlayerStatsDailyDO> deltas);
+}
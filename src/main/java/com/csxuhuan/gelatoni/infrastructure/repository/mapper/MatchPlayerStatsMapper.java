@@ -1,8 +1,19 @@
 package com.csxuhuan.gelatoni.infrastructure.repository.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.csxuhuan.gelatoni.infrastructure.repository.entity.MatchPlayerGameStatsDO;
+import com.csxuhuan.gelatoni.infrastructure.repository.entity.MatchPlayerStatsDailyDO;
 import com.csxuhuan.gelatoni.infrastructure.repository.entity.MatchPlayerStatsDO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.ResultType;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.mapping.ResultSetType;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * MatchPlayerStatsMapper
@@ -12,4 +23,148 @@ import org.apache.ibatis.annotations.Mapper;
  */
 @Mapper
 public interface MatchPlayerStatsMapper extends BaseMapper<MatchPlayerStatsDO> {
-}
\ No newline at end of file
+
+    /** 统计用球员明细的查询列 */
+    String STATS_COLUMNS = "SELECT p.id, p.match_id, p.team_type, p.user_name, p.player_name, p.rating, p.is_mvp, p.is_svp,"
+            + " p.score, p.assist, p.rebound, p.steal, p.block, p.turnover,"
+            + " p.fg_attempt, p.fg_made, p.three_attempt, p.three_made";
+
+    /**
+     * 统计查询的公共关联和筛选条件：球员、比赛均未删除，可选的赛季和是否排除机器人
+     *
+     * <p>需要参数 season、excludeRobot，队伍类型由各查询自行追加。
+     */
+    String STATS_FROM_WHERE = " FROM match_player_stats p"
+            + " JOIN match_game g ON g.id = p.match_id"
+            + " WHERE p.is_deleted = 0"
+            + " AND g.is_deleted = 0"
+            + "<if test='season != null and season != \"\"'> AND g.season = #{season}</if>"
+            + "<if test='excludeRobot'> AND g.is_robot = 0</if>";
+
+    /** 统计查询的比赛时间范围条件，需要参数 startTime、endTime（均可为空，包含边界） */
+    String STATS_TIME_RANGE = "<if test='startTime != null'> AND g.match_time &gt;= #{startTime}</if>"
+            + "<if test='endTime != null'> AND g.match_time &lt;= #{endTime}</if>";
+
+    /**
+     * 关联比赛表查询统计用的球员数据
+     *
+     * <p>比赛条件（赛季、是否机器人、时间范围）直接在关联中过滤，
+     * 只查询统计计算需要的列。
+     *
+     * @param teamType 队伍类型：1=我方，2=对方
+     * @param season 赛季（可选），为空表示全赛季
+     * @param excludeRobot 是否排除机器人比赛
+     * @param startTime 比赛时间下限（可选，包含）
+     * @param endTime 比赛时间上限（可选，包含）
+     * @return 球员统计数据列表
+     */
+    @Select({"<script>",
+            STATS_COLUMNS,
+            STATS_FROM_WHERE,
+            " AND p.team_type = #{teamType}",
+            STATS_TIME_RANGE,
+            "</script>"})
+    List<MatchPlayerStatsDO> selectStatsRows(@Param("teamType") Integer teamType,
+                                             @Param("season") String season,
+                                             @Param("excludeRobot") boolean excludeRobot,
+                                             @Param("startTime") LocalDateTime startTime,
+                                             @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * 流式查询统计用的球员数据
+     *
+     * <p>条件和查询列与 {@link #selectStatsRows} 一致。结果不组装成列表，
+     * 而是逐行回调 handler；fetchSize 为 Integer.MIN_VALUE 时 MySQL 驱动按行从服务端读取，
+     * 内存中只保留当前行。
+     *
+     * @param teamType 队伍类型：1=我方，2=对方
+     * @param season 赛季（可选），为空表示全赛季
+     * @param excludeRobot 是否排除机器人比赛
+     * @param startTime 比赛时间下限（可选，包含）
+     * @param endTime 比赛时间上限（可选，包含）
+     * @param handler 逐行处理器
+     */
+    @Select({"<script>",
+            STATS_COLUMNS,
+            STATS_FROM_WHERE,
+            " AND p.team_type = #{teamType}",
+            STATS_TIME_RANGE,
+            "</script>"})
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = Integer.MIN_VALUE)
+    @ResultType(MatchPlayerStatsDO.class)
+    void streamStatsRows(@Param("teamType") Integer teamType,
+                         @Param("season") String season,
+                         @Param("excludeRobot") boolean excludeRobot,
+                         @Param("startTime") LocalDateTime startTime,
+                         @Param("endTime") LocalDateTime endTime,
+                         ResultHandler<MatchPlayerStatsDO> handler);
+
+    /**
+     * 在数据库中按球员名称或用户昵称分组聚合我方球员数据
+     *
+     * <p>每个名称返回一行，包含上场次数、各项累计值以及 MVP/SVP 次数，
+     * 结果复用汇总表对象承载（只填充名称和累计字段）。
+     * 名称按二进制排序规则分组，保持大小写敏感，与内存聚合结果一致；
+     * 先转换为 utf8mb4 再指定排序规则，不依赖 match_player_stats 表的字符集。
+     *
+     * @param byUser true=按用户昵称分组，false=按球员名称分组
+     * @param season 赛季（可选），为空表示全赛季
+     * @param excludeRobot 是否排除机器人比赛
+     * @param startTime 比赛时间下限（可选，包含）
+     * @param endTime 比赛时间上限（可选，包含）
+     * @return 每个名称一行的聚合结果
+     */
+    @Select({"<script>",
+            "SELECT",
+            "<choose>",
+            "<when test='byUser'>CONVERT(TRIM(p.user_name) USING utf8mb4) COLLATE utf8mb4_bin AS user_name,</when>",
+            "<otherwise>CONVERT(TRIM(p.player_name) USING utf8mb4) COLLATE utf8mb4_bin AS player_name,</otherwise>",
+            "</choose>",
+            " COUNT(*) AS appearances,",
+            " SUM(IFNULL(p.score, 0)) AS score,",
+            " SUM(IFNULL(p.rebound, 0)) AS rebound,",
+            " SUM(IFNULL(p.assist, 0)) AS assist,",
+            " SUM(IFNULL(p.steal, 0)) AS steal,",
+            " SUM(IFNULL(p.block, 0)) AS block,",
+            " SUM(IFNULL(p.turnover, 0)) AS turnover,",
+            " SUM(IFNULL(p.fg_attempt, 0)) AS fg_attempt,",
+            " SUM(IFNULL(p.fg_made, 0)) AS fg_made,",
+            " SUM(IFNULL(p.three_attempt, 0)) AS three_attempt,",
+            " SUM(IFNULL(p.three_made, 0)) AS three_made,",
+            " SUM(IF(p.is_mvp = 1, 1, 0)) AS mvp_count,",
+            " SUM(IF(p.is_svp = 1, 1, 0)) AS svp_count,",
+            " SUM(IFNULL(p.rating, 0)) AS rating_sum",
+            STATS_FROM_WHERE,
+            " AND p.team_type = 1",
+            STATS_TIME_RANGE,
+            " GROUP BY",
+            "<choose>",
+            "<when test='byUser'>CONVERT(TRIM(p.user_name) USING utf8mb4) COLLATE utf8mb4_bin</when>",
+            "<otherwise>CONVERT(TRIM(p.player_name) USING utf8mb4) COLLATE utf8mb4_bin</otherwise>",
+            "</choose>",
+            "</script>"})
+    List<MatchPlayerStatsDailyDO> selectAggregatedMyStats(@Param("byUser") boolean byUser,
+                                                          @Param("season") String season,
+                                                          @Param("excludeRobot") boolean excludeRobot,
+                                                          @Param("startTime") LocalDateTime startTime,
+                                                          @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * 关联比赛表查询球员统计数据及其所属比赛的时间、结果和比分
+     *
+     * @param teamType 队伍类型：1=我方，2=对方
+     * @param season 赛季（可选），为空表示全赛季
+     * @param excludeRobot 是否排除机器人比赛
+     * @return 球员比赛数据列表
+     */
+    @Select({"<script>",
+            "SELECT p.match_id, p.team_type, p.user_name, p.player_name, p.rating,",
+            " p.score, p.rebound, p.assist, p.steal, p.block,",
+            " g.match_time, g.result, g.my_score, g.opp_score",
+            STATS_FROM_WHERE,
+            " AND p.team_type = #{teamType}",
+            "</script>"})
+    List<MatchPlayerGameStatsDO> selectPlayerGameStats(@Param("teamType") Integer teamType,
+                                                       @Param("season") String season,
+                                                       @Param("excludeRobot") boolean excludeRobot);
+}
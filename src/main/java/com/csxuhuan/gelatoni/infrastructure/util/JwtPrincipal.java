@@ -0,0 +1,83 @@
+package com.csxuhuan.gelatoni.infrastructure.util;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JWT Token 解析结果
+ *
+ * <p>由 {@link JwtUtil#verifyAndExtract(String)} 一次验签、解析得到，不可修改，可在多个请求间共享。
+ *
+ * <p>字段说明：
+ * <ul>
+ *     <li>userId / username - 用户ID和用户名</li>
+ *     <li>roleCodes / permissionBits / permissionVersion - 嵌入的角色、权限位集和权限版本，
+ *     未嵌入权限的 Token 中为 null</li>
+ *     <li>expiresAt - 过期时间（毫秒时间戳）</li>
+ * </ul>
+ *
+ * @author csxuhuan
+ */
+public class JwtPrincipal {
+
+    /** 用户ID */
+    private final Long userId;
+
+    /** 用户名 */
+    private final String username;
+
+    /** 角色编码列表，未嵌入时为 null */
+    private final List<String> roleCodes;
+
+    /** 权限位集，未嵌入时为 null */
+    private final Long permissionBits;
+
+    /** 签发时的权限版本，未嵌入时为 null */
+    private final String permissionVersion;
+
+    /** 过期时间（毫秒时间戳） */
+    private final long expiresAt;
+
+    public JwtPrincipal(Long userId, String username, List<String> roleCodes, Long permissionBits,
+                        String permissionVersion, long expiresAt) {
+        this.userId = userId;
+        this.username = username;
+        this.roleCodes = roleCodes == null ? null : Collections.unmodifiableList(roleCodes);
+        this.permissionBits = permissionBits;
+        this.permissionVersion = permissionVersion;
+        this.expiresAt = expiresAt;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public List<String> getRoleCodes() {
+        return roleCodes;
+    }
+
+    public Long getPermissionBits() {
+        return permissionBits;
+    }
+
+    public String getPermissionVersion() {
+        return permissionVersion;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Token 中是否嵌入了角色和权限
+     *
+     * @return true 如果嵌入了权限位集和权限版本
+     */
+    public boolean hasEmbeddedPermissions() {
+        return permissionBits != null && permissionVersion != null;
+    }
+}
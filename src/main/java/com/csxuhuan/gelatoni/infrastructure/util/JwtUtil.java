@@ -1,17 +1,27 @@
 package com.csxuhuan.gelatoni.infrastructure.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 工具类
@@ -19,11 +29,27 @@ import java.util.Map;
  * <p>提供 JWT Token 的生成和解析功能。
  * 配置从 application.properties 读取。
  *
+ * <p>开启 jwt.embed-permissions 后，登录签发的 Token 额外包含角色编码、权限位集和权限版本，
+ * 鉴权时直接使用 Token 中的权限，不查询数据库。
+ *
+ * <p>性能：签名密钥和 JwtParser 启动时创建一次，之后复用（二者均线程安全）；
+ * {@link #verifyAndExtract(String)} 一次验签即得到全部信息，并把最近验证过的 Token
+ * （按 SHA-256 摘要）与解析结果缓存起来，缓存时间不超过 Token 的剩余有效期。
+ *
  * @author csxuhuan
  */
 @Component
 public class JwtUtil {
 
+    /** Claim：角色编码列表 */
+    public static final String CLAIM_ROLES = "roles";
+
+    /** Claim：权限位集 */
+    public static final String CLAIM_PERMISSIONS = "perms";
+
+    /** Claim：签发时的权限版本 */
+    public static final String CLAIM_PERMISSION_VERSION = "pv";
+
     /**
      * JWT Secret，从配置文件读取
      */
@@ -37,13 +63,57 @@ public class JwtUtil {
     private long expirationTime;
 
     /**
-     * 获取签名密钥
-     *
-     * @return 签名密钥
+     * 是否在 Token 中嵌入角色和权限，默认关闭
+     */
+    @Value("${jwt.embed-permissions:false}")
+    private boolean embedPermissions;
+
+    /**
+     * 已验证 Token 缓存的最大条目数
+     */
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
+
+    /** 签名密钥 */
+    private SecretKey signingKey;
+
+    /** Token 解析器 */
+    private JwtParser parser;
+
+    /** 已验证 Token 缓存：Token 的 SHA-256 摘要 → 解析结果，条目在 Token 过期时失效 */
+    private Cache<String, JwtPrincipal> verifiedTokens;
+
+    /**
+     * 根据配置创建签名密钥、解析器和已验证 Token 缓存
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @PostConstruct
+    public void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<String, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+                        long remainingMillis = principal.getExpiresAt() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtPrincipal principal, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     /**
@@ -59,7 +129,42 @@ public class JwtUtil {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId);
         claims.put("username", username);
+        return buildToken(claims, username);
+    }
+
+    /**
+     * 生成嵌入角色和权限的 JWT Token
+     *
+     * <p>Token 中除用户ID和用户名外，还包含角色编码列表、权限位集和签发时的权限版本。
+     *
+     * @param userId            用户ID
+     * @param username          用户名
+     * @param roleCodes         角色编码列表
+     * @param permissionBits    权限位集
+     * @param permissionVersion 权限版本
+     * @return JWT Token 字符串
+     */
+    public String generateToken(Long userId, String username, List<String> roleCodes,
+                                long permissionBits, String permissionVersion) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", userId);
+        claims.put("username", username);
+        claims.put(CLAIM_ROLES, roleCodes);
+        claims.put(CLAIM_PERMISSIONS, permissionBits);
+        claims.put(CLAIM_PERMISSION_VERSION, permissionVersion);
+        return buildToken(claims, username);
+    }
+
+    /**
+     * 是否在 Token 中嵌入角色和权限
+     *
+     * @return true 如果开启
+     */
+    public boolean isEmbedPermissions() {
+        return embedPermissions;
+    }
 
+    private String buildToken(Map<String, Object> claims, String username) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + expirationTime);
 
@@ -68,7 +173,7 @@ public class JwtUtil {
                 .setSubject(username)
                 .setIssuedAt(now)
                 .setExpiration(expiration)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -80,21 +185,47 @@ public class JwtUtil {
      * @throws io.jsonwebtoken.JwtException 如果 Token 无效、过期或格式错误
      */
     public Claims parseToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     /**
-     * 从 Token 中获取用户ID
+     * 验证 Token 并提取用户ID、用户名及嵌入的角色和权限
+     *
+     * <p>最近验证过的 Token 直接返回缓存的结果，不再验签；缓存条目在 Token 过期时失效。
      *
      * @param token JWT Token
-     * @return 用户ID
+     * @return 解析结果
+     * @throws io.jsonwebtoken.JwtException 如果 Token 无效、过期或格式错误
      */
-    public Long getUserIdFromToken(String token) {
+    public JwtPrincipal verifyAndExtract(String token) {
+        String tokenHash = sha256(token);
+        JwtPrincipal cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && cached.getExpiresAt() > System.currentTimeMillis()) {
+            return cached;
+        }
+
         Claims claims = parseToken(token);
+        JwtPrincipal principal = toPrincipal(claims);
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(tokenHash, principal);
+        }
+        return principal;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JwtPrincipal toPrincipal(Claims claims) {
+        Object permissionBits = claims.get(CLAIM_PERMISSIONS);
+        Date expiration = claims.getExpiration();
+        return new JwtPrincipal(
+                getUserId(claims),
+                claims.getSubject(),
+                claims.get(CLAIM_ROLES, List.class),
+                permissionBits instanceof Number ? ((Number) permissionBits).longValue() : null,
+                claims.get(CLAIM_PERMISSION_VERSION, String.class),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+    }
+
+    private static Long getUserId(Claims claims) {
         Object userId = claims.get("userId");
         if (userId instanceof Integer) {
             return ((Integer) userId).longValue();
@@ -104,6 +235,25 @@ public class JwtUtil {
         return null;
     }
 
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 不可用", e);
+        }
+    }
+
+    /**
+     * 从 Token 中获取用户ID
+     *
+     * @param token JWT Token
+     * @return 用户ID
+     */
+    public Long getUserIdFromToken(String token) {
+        return getUserId(parseToken(token));
+    }
+
     /**
      * 从 Token 中获取用户名
      *
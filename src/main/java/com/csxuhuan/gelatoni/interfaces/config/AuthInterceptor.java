@@ -2,10 +2,14 @@ package com.csxuhuan.gelatoni.interfaces.config;
 
 import com.csxuhuan.gelatoni.application.dto.UserInfoDTO;
 import com.csxuhuan.gelatoni.application.service.AuthAppService;
+import com.csxuhuan.gelatoni.infrastructure.util.JwtPrincipal;
 import com.csxuhuan.gelatoni.infrastructure.util.JwtUtil;
+import com.csxuhuan.gelatoni.interfaces.web.common.AuthPrincipal;
 import com.csxuhuan.gelatoni.interfaces.web.common.BaseResponse;
 import com.csxuhuan.gelatoni.interfaces.web.common.ResultCode;
 import com.csxuhuan.gelatoni.interfaces.web.common.UserHolder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.HandlerMethod;
@@ -14,7 +18,6 @@ import org.springframework.web.servlet.HandlerInterceptor;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
 
 /**
  * 认证拦截器
@@ -36,10 +39,19 @@ import java.util.List;
  *
  * <p>用户信息存储：
  * <ul>
- *     <li>验证通过后，会将用户信息存储到 {@link UserHolder} 中</li>
+ *     <li>验证通过后，会将用户信息编译为 {@link AuthPrincipal}（权限为位集）存储到 {@link UserHolder} 中</li>
  *     <li>请求处理完成后，会自动清理 {@link UserHolder} 中的数据</li>
  * </ul>
  *
+ * <p>鉴权元数据在启动时预先编译（见 {@link AuthPolicyRegistry}）：每个处理器方法对应一个 {@link AuthPolicy}，
+ * 匿名角色权限为位集，请求期间只需一次映射查找和一次位运算，不再反射读取注解。
+ *
+ * <p>开启 jwt.embed-permissions 后，Token 中带有角色、权限位集和权限版本，
+ * 只需比较权限版本（本地缓存）即可鉴权，不查询数据库；未嵌入权限的旧 Token 仍按下述方式鉴权。
+ *
+ * <p>用户和匿名角色的角色码、权限码均从缓存读取（见 {@link AuthAppService#getAuthUserInfo}），
+ * 缓存命中时鉴权不查询数据库。
+ *
  * @author csxuhuan
  * @see AuthCheck
  * @see UserHolder
@@ -49,21 +61,31 @@ import java.util.List;
 @Component
 public class AuthInterceptor implements HandlerInterceptor {
 
-    /** 匿名角色编码 */
-    private static final String ROLE_ANONYMOUS = "ROLE_ANONYMOUS";
-
     private final AuthAppService authAppService;
     private final JwtUtil jwtUtil;
+    private final AuthPolicyRegistry authPolicyRegistry;
+
+    /**
+     * 用户信息快照 → 认证主体
+     *
+     * <p>快照来自缓存，多个请求共享同一对象，按对象身份（弱引用）缓存由它编译出的认证主体，
+     * 快照被替换后随之回收
+     */
+    private final Cache<UserInfoDTO, AuthPrincipal> principals = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
 
     /**
      * 构造函数，注入依赖
      *
      * @param authAppService 认证应用服务
-     * @param jwtUtil        JWT 工具类
+     * @param jwtUtil            JWT 工具类
+     * @param authPolicyRegistry 鉴权策略注册表
      */
-    public AuthInterceptor(AuthAppService authAppService, JwtUtil jwtUtil) {
+    public AuthInterceptor(AuthAppService authAppService, JwtUtil jwtUtil, AuthPolicyRegistry authPolicyRegistry) {
         this.authAppService = authAppService;
         this.jwtUtil = jwtUtil;
+        this.authPolicyRegistry = authPolicyRegistry;
     }
 
     /**
@@ -72,11 +94,11 @@ public class AuthInterceptor implements HandlerInterceptor {
      * <p>检查流程：
      * <ol>
      *     <li>判断是否为 Controller 方法请求</li>
-     *     <li>检查方法是否标记了 @AuthCheck 注解</li>
-     *     <li>如果注解指定了权限编码，先检查是否为未登录权限（匿名用户权限）</li>
+     *     <li>查找方法的鉴权策略（启动时由 @AuthCheck 注解编译，见 {@link AuthPolicyRegistry}）</li>
+     *     <li>如果策略指定了权限编码，先检查是否为未登录权限（匿名用户权限，位集判断）</li>
      *     <li>如果是未登录权限，直接放行</li>
      *     <li>如果不是未登录权限，验证 Authorization 请求头中的 Bearer Token</li>
-     *     <li>验证 Token 有效性，并获取用户信息</li>
+     *     <li>验证 Token 有效性（一次验签，最近验证过的 Token 直接使用缓存结果），并获取用户信息</li>
      *     <li>检查用户是否拥有指定权限</li>
      *     <li>将用户信息存储到 UserHolder</li>
      * </ol>
@@ -98,25 +120,16 @@ public class AuthInterceptor implements HandlerInterceptor {
 
         HandlerMethod method = (HandlerMethod) handler;
 
-        // 检查方法是否有 @AuthCheck 注解
-        if (!method.getMethod().isAnnotationPresent(AuthCheck.class)) {
+        // 查找启动时编译好的鉴权策略，没有 @AuthCheck 注解的方法直接放行
+        AuthPolicy policy = authPolicyRegistry.getPolicy(method);
+        if (policy.isPublic()) {
             return true;
         }
 
-        AuthCheck authCheck = method.getMethod().getAnnotation(AuthCheck.class);
-        String permissionCode = authCheck.permissionCode();
-
         // 如果指定了权限编码，先检查是否为未登录权限（匿名用户权限）
-        if (permissionCode != null && !permissionCode.isEmpty()) {
-            // 获取匿名角色的权限列表
-            UserInfoDTO anonymousRoleInfo = authAppService.getUserInfoByRoleCode(ROLE_ANONYMOUS);
-            // 检查请求的权限是否在匿名角色的权限列表中
-            if (anonymousRoleInfo != null && anonymousRoleInfo.getPermissionCodes() != null) {
-                if (anonymousRoleInfo.getPermissionCodes().contains(permissionCode)) {
-                    // 该权限属于匿名角色，可以不传 Token 直接放行，不设置 UserHolder
-                    return true;
-                }
-            }
+        if (authPolicyRegistry.isAnonymousAllowed(policy)) {
+            // 该权限属于匿名角色，可以不传 Token 直接放行，不设置 UserHolder
+            return true;
         }
 
         // 获取 Token
@@ -128,35 +141,38 @@ public class AuthInterceptor implements HandlerInterceptor {
 
         String token = authHeader.substring(7); // 移除 "Bearer " 前缀
 
-        // 验证 Token 有效性
-        if (!jwtUtil.validateToken(token)) {
-            log.error("认证失败 - Token 无效或已过期");
+        // 验证 Token 有效性，一次验签得到用户ID、用户名及嵌入的权限
+        JwtPrincipal principal;
+        try {
+            principal = jwtUtil.verifyAndExtract(token);
+        } catch (Exception e) {
+            log.error("认证失败 - Token 无效或已过期: {}", e.getMessage());
             return sendUnauthorizedResponse(response, "Unauthorized: Invalid or expired token");
         }
+        Long userId = principal.getUserId();
+        String username = principal.getUsername();
 
-        // 从 Token 中获取用户名
-        String username;
-        try {
-            username = jwtUtil.getUsernameFromToken(token);
-        } catch (Exception e) {
-            log.error("认证失败 - 解析 Token 失败: {}", e.getMessage());
-            return sendUnauthorizedResponse(response, "Unauthorized: Failed to parse token");
+        // Token 中嵌入了权限时，直接使用 Token 中的权限鉴权
+        if (jwtUtil.isEmbedPermissions() && userId != null && principal.hasEmbeddedPermissions()) {
+            return authorizeByClaims(response, principal, policy);
         }
 
-        // 获取用户信息（包括角色和权限）
+        // 获取用户信息（包括角色和权限），按用户ID缓存
         UserInfoDTO userInfo;
         try {
-            userInfo = authAppService.getUserWithRolesAndPermissions(username);
+            userInfo = userId != null
+                    ? authAppService.getAuthUserInfo(userId, username)
+                    : authAppService.getUserWithRolesAndPermissions(username);
         } catch (Exception e) {
             log.error("认证失败 - 获取用户信息失败: {}", e.getMessage());
             return sendUnauthorizedResponse(response, "Unauthorized: Failed to get user information");
         }
 
         // 如果指定了权限编码，检查用户是否拥有该权限
-        if (permissionCode != null && !permissionCode.isEmpty()) {
-            List<String> permissionCodes = userInfo.getPermissionCodes();
-            if (permissionCodes == null || !permissionCodes.contains(permissionCode)) {
-                log.error("权限验证失败 - 用户 {} 没有权限 {}", username, permissionCode);
+        AuthPrincipal authPrincipal = toPrincipal(userInfo);
+        if (policy.hasPermissionCode()) {
+            if (!authPrincipal.hasPermission(policy.getPermissionOrdinal())) {
+                log.error("权限验证失败 - 用户 {} 没有权限 {}", username, policy.getPermissionCode());
                 return sendUnauthorizedResponse(response, "Unauthorized: Insufficient permissions");
             }
         }
@@ -168,13 +184,53 @@ public class AuthInterceptor implements HandlerInterceptor {
         }
 
         // 将用户信息存储到 UserHolder
-        UserHolder.set(
-                userInfo.getUser().getId(),
-                username,
-                userInfo.getRoleCodes(),
-                userInfo.getPermissionCodes()
-        );
+        UserHolder.set(authPrincipal);
+
+        return true;
+    }
+
+    /**
+     * 获取用户信息快照对应的认证主体，同一快照只编译一次
+     *
+     * @param userInfo 用户信息快照
+     * @return 认证主体
+     */
+    private AuthPrincipal toPrincipal(UserInfoDTO userInfo) {
+        return principals.get(userInfo, info -> AuthPrincipal.of(
+                info.getUser() == null ? null : info.getUser().getId(),
+                info.getUser() == null ? null : info.getUser().getUsername(),
+                info.getRoleCodes(),
+                info.getPermissionCodes()));
+    }
+
+    /**
+     * 使用 Token 中嵌入的角色和权限鉴权
+     *
+     * <p>权限版本与用户当前版本不一致时，说明签发后用户角色或角色权限已变更，Token 作废需重新登录。
+     *
+     * @param response       HTTP 响应
+     * @param principal      Token 解析结果
+     * @param policy         鉴权策略
+     * @return true 表示放行，false 表示拦截
+     * @throws IOException 写入响应时可能抛出的异常
+     */
+    private boolean authorizeByClaims(HttpServletResponse response, JwtPrincipal principal,
+                                      AuthPolicy policy) throws IOException {
+        Long userId = principal.getUserId();
+        String username = principal.getUsername();
+        if (!principal.getPermissionVersion().equals(authAppService.getPermissionVersion(userId))) {
+            log.error("认证失败 - 用户 {} 的权限已变更，Token 作废", username);
+            return sendUnauthorizedResponse(response, "Unauthorized: Permissions changed, please login again");
+        }
+
+        AuthPrincipal authPrincipal = AuthPrincipal.ofBits(userId, username, principal.getRoleCodes(),
+                principal.getPermissionBits());
+        if (policy.hasPermissionCode() && !authPrincipal.hasPermission(policy.getPermissionOrdinal())) {
+            log.error("权限验证失败 - 用户 {} 没有权限 {}", username, policy.getPermissionCode());
+            return sendUnauthorizedResponse(response, "Unauthorized: Insufficient permissions");
+        }
 
+        UserHolder.set(authPrincipal);
         return true;
     }
 
@@ -0,0 +1,81 @@
+package com.csxuhuan.gelatoni.interfaces.config;
+
+import com.csxuhuan.gelatoni.interfaces.web.common.PermissionRegistry;
+
+/**
+ * 处理器方法的鉴权策略
+ *
+ * <p>由 {@link AuthCheck} 注解预先编译得到，不可修改：
+ * <ul>
+ *     <li>公开：方法没有 {@link AuthCheck} 注解，直接放行</li>
+ *     <li>需登录：有注解但未指定权限编码，只校验 Token</li>
+ *     <li>需权限：指定了权限编码，权限编码已登记到 {@link PermissionRegistry}，
+ *     匿名角色拥有该权限时允许不登录访问（匿名角色权限见 {@link AuthPolicyRegistry#isAnonymousAllowed}）</li>
+ * </ul>
+ *
+ * @author csxuhuan
+ * @see AuthPolicyRegistry
+ */
+public final class AuthPolicy {
+
+    /** 公开策略 */
+    public static final AuthPolicy PUBLIC = new AuthPolicy(false, null, -1);
+
+    /** 是否需要认证 */
+    private final boolean authRequired;
+
+    /** 需要的权限编码，未指定时为 null */
+    private final String permissionCode;
+
+    /** 权限编码在 {@link PermissionRegistry} 中的序号，未指定时为 -1 */
+    private final int permissionOrdinal;
+
+    private AuthPolicy(boolean authRequired, String permissionCode, int permissionOrdinal) {
+        this.authRequired = authRequired;
+        this.permissionCode = permissionCode;
+        this.permissionOrdinal = permissionOrdinal;
+    }
+
+    /**
+     * 由注解编译鉴权策略
+     *
+     * @param authCheck 注解，为 null 表示公开
+     * @return 鉴权策略
+     */
+    public static AuthPolicy of(AuthCheck authCheck) {
+        if (authCheck == null) {
+            return PUBLIC;
+        }
+        String permissionCode = authCheck.permissionCode();
+        if (permissionCode == null || permissionCode.isEmpty()) {
+            return new AuthPolicy(true, null, -1);
+        }
+        return new AuthPolicy(true, permissionCode, PermissionRegistry.intern(permissionCode));
+    }
+
+    /**
+     * 是否公开（不需要认证）
+     *
+     * @return true 如果公开
+     */
+    public boolean isPublic() {
+        return !authRequired;
+    }
+
+    /**
+     * 是否指定了权限编码
+     *
+     * @return true 如果指定了权限编码
+     */
+    public boolean hasPermissionCode() {
+        return permissionOrdinal >= 0;
+    }
+
+    public String getPermissionCode() {
+        return permissionCode;
+    }
+
+    public int getPermissionOrdinal() {
+        return permissionOrdinal;
+    }
+}
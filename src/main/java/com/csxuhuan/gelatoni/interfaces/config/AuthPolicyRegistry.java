@@ -0,0 +1,151 @@
+package com.csxuhuan.gelatoni.interfaces.config;
+
+import com.csxuhuan.gelatoni.application.dto.UserInfoDTO;
+import com.csxuhuan.gelatoni.application.service.AuthAppService;
+import com.csxuhuan.gelatoni.domain.event.PermissionChangedEvent;
+import com.csxuhuan.gelatoni.interfaces.web.common.PermissionSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 鉴权策略注册表
+ *
+ * <p>为 {@link AuthInterceptor} 预先准备鉴权所需的元数据，请求期间不再反射读取注解：
+ * <ul>
+ *     <li>处理器策略：容器启动完成后遍历全部 {@link RequestMappingHandlerMapping} 的处理器方法，
+ *     把 {@link AuthCheck} 编译为 {@link AuthPolicy}，生成不可修改的 方法 → 策略 映射</li>
+ *     <li>匿名角色权限：首次使用时加载为 {@link PermissionSet}，收到 {@link PermissionChangedEvent} 时重新加载；
+ *     为防止失效通知丢失，超过本地缓存时间后也会重新加载</li>
+ * </ul>
+ *
+ * <p>注意：拦截器注册早于处理器映射创建，这里不能在构造时注入 {@link RequestMappingHandlerMapping}，
+ * 改为在容器刷新完成后从 {@link ApplicationContext} 获取。
+ *
+ * @author csxuhuan
+ * @see AuthPolicy
+ */
+@Slf4j
+@Component
+public class AuthPolicyRegistry {
+
+    /** 匿名角色编码 */
+    private static final String ROLE_ANONYMOUS = "ROLE_ANONYMOUS";
+
+    private final ApplicationContext applicationContext;
+    private final AuthAppService authAppService;
+
+    /** 匿名角色权限的最长使用时间（纳秒） */
+    private final long anonymousTtlNanos;
+
+    /** 处理器方法 → 鉴权策略，启动后不可修改 */
+    private volatile Map<Method, AuthPolicy> policies = Collections.emptyMap();
+
+    /** 匿名角色权限，为 null 表示需要重新加载 */
+    private volatile AnonymousPermissions anonymousPermissions;
+
+    public AuthPolicyRegistry(ApplicationContext applicationContext,
+                              AuthAppService authAppService,
+                              @Value("${auth.cache.local-cache.ttl-seconds:60}") long anonymousTtlSeconds) {
+        this.applicationContext = applicationContext;
+        this.authAppService = authAppService;
+        this.anonymousTtlNanos = TimeUnit.SECONDS.toNanos(anonymousTtlSeconds);
+    }
+
+    /**
+     * 容器刷新完成后编译全部处理器方法的鉴权策略
+     *
+     * @param event 容器刷新事件
+     */
+    @EventListener
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        if (event.getApplicationContext() != applicationContext) {
+            return;
+        }
+        Map<Method, AuthPolicy> compiled = new HashMap<>();
+        for (RequestMappingHandlerMapping mapping
+                : applicationContext.getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            for (HandlerMethod handlerMethod : mapping.getHandlerMethods().values()) {
+                compiled.computeIfAbsent(handlerMethod.getMethod(), AuthPolicyRegistry::compile);
+            }
+        }
+        policies = Collections.unmodifiableMap(compiled);
+        log.info("鉴权策略编译完成，处理器方法 {} 个", compiled.size());
+    }
+
+    /**
+     * 角色权限变更后丢弃匿名角色权限，下次使用时重新加载
+     *
+     * @param event 角色权限变更事件
+     */
+    @EventListener
+    public void onPermissionChanged(PermissionChangedEvent event) {
+        anonymousPermissions = null;
+    }
+
+    /**
+     * 获取处理器方法的鉴权策略
+     *
+     * @param handlerMethod 处理器方法
+     * @return 鉴权策略
+     */
+    public AuthPolicy getPolicy(HandlerMethod handlerMethod) {
+        Method method = handlerMethod.getMethod();
+        AuthPolicy policy = policies.get(method);
+        // 启动时未登记的方法（正常不会出现）直接读取注解
+        return policy != null ? policy : compile(method);
+    }
+
+    /**
+     * 判断策略要求的权限是否属于匿名角色（可以不登录访问）
+     *
+     * @param policy 鉴权策略
+     * @return true 如果匿名角色拥有该权限
+     */
+    public boolean isAnonymousAllowed(AuthPolicy policy) {
+        return policy.hasPermissionCode() && getAnonymousPermissions().contains(policy.getPermissionOrdinal());
+    }
+
+    private PermissionSet getAnonymousPermissions() {
+        AnonymousPermissions current = anonymousPermissions;
+        if (current == null || System.nanoTime() - current.loadedAt > anonymousTtlNanos) {
+            UserInfoDTO anonymousRoleInfo = authAppService.getUserInfoByRoleCode(ROLE_ANONYMOUS);
+            PermissionSet permissions = anonymousRoleInfo == null
+                    ? PermissionSet.EMPTY
+                    : PermissionSet.of(anonymousRoleInfo.getPermissionCodes());
+            current = new AnonymousPermissions(permissions, System.nanoTime());
+            anonymousPermissions = current;
+        }
+        return current.permissions;
+    }
+
+    private static AuthPolicy compile(Method method) {
+        return AuthPolicy.of(method.getAnnotation(AuthCheck.class));
+    }
+
+    /**
+     * 匿名角色权限及加载时间
+     */
+    private static final class AnonymousPermissions {
+
+        private final PermissionSet permissions;
+
+        private final long loadedAt;
+
+        private AnonymousPermissions(PermissionSet permissions, long loadedAt) {
+            this.permissions = permissions;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
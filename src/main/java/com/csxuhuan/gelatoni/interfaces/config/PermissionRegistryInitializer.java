@@ -0,0 +1,51 @@
+package com.csxuhuan.gelatoni.interfaces.config;
+
+import com.csxuhuan.gelatoni.application.service.PermissionAppService;
+import com.csxuhuan.gelatoni.domain.model.entity.Permission;
+import com.csxuhuan.gelatoni.interfaces.web.common.PermissionRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 权限注册表初始化
+ *
+ * <p>启动完成后把数据库中的全部权限编码登记到 {@link PermissionRegistry}，
+ * 请求期间不再需要为已有权限分配序号。之后新建的权限在首次使用时自动登记。
+ *
+ * @author csxuhuan
+ * @see PermissionRegistry
+ */
+@Slf4j
+@Component
+public class PermissionRegistryInitializer {
+
+    private final PermissionAppService permissionAppService;
+
+    public PermissionRegistryInitializer(PermissionAppService permissionAppService) {
+        this.permissionAppService = permissionAppService;
+    }
+
+    /**
+     * 登记数据库中的权限编码
+     *
+     * <p>登记失败不影响启动，未登记的权限编码在首次使用时登记
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerPermissions() {
+        try {
+            List<String> permissionCodes = permissionAppService.findAllPermissions().stream()
+                    .map(Permission::getPermissionCode)
+                    .filter(code -> code != null && !code.isEmpty())
+                    .collect(Collectors.toList());
+            PermissionRegistry.register(permissionCodes);
+            log.info("权限注册表初始化完成，登记权限 {} 个", permissionCodes.size());
+        } catch (Exception e) {
+            log.warn("权限注册表初始化失败，权限编码将在首次使用时登记: {}", e.getMessage());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.csxuhuan.gelatoni.interfaces.web;
 
 import com.csxuhuan.gelatoni.application.dto.MatchGameDTO;
 import com.csxuhuan.gelatoni.application.dto.MatchGameBaseDataDTO;
+import com.csxuhuan.gelatoni.application.dto.MatchGameBaseDataSnapshot;
 import com.csxuhuan.gelatoni.application.dto.MatchGameDetailDTO;
 import com.csxuhuan.gelatoni.application.dto.MatchGameStatsDTO;
 import com.csxuhuan.gelatoni.application.dto.MatchGameTrendDTO;
@@ -13,6 +14,7 @@ import com.csxuhuan.gelatoni.domain.query.MatchGamePageQuery;
 import com.csxuhuan.gelatoni.infrastructure.redis.manager.MatchGameStatsCacheManager;
 import com.csxuhuan.gelatoni.interfaces.config.AuthCheck;
 import com.csxuhuan.gelatoni.interfaces.web.common.BaseResponse;
+import com.csxuhuan.gelatoni.interfaces.web.common.PageData;
 import com.csxuhuan.gelatoni.interfaces.web.common.PermissionConstants;
 import com.csxuhuan.gelatoni.interfaces.web.request.MatchGameCreateRequest;
 import com.csxuhuan.gelatoni.interfaces.web.request.MatchGameUpdateRequest;
@@ -21,10 +23,13 @@ import com.csxuhuan.gelatoni.interfaces.web.request.MatchGameStatsRequest;
 import com.csxuhuan.gelatoni.interfaces.web.request.MatchGameTrendRequest;
 import com.csxuhuan.gelatoni.application.assembler.MatchGameAssembler;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 /**
  * 比赛控制器
@@ -35,6 +40,7 @@ import java.util.List;
  *     <li>DELETE /api/match-game/delete/{id} - 删除比赛接口</li>
  *     <li>POST /api/match-game/page - 分页查询比赛列表接口</li>
  *     <li>GET /api/match-game/detail/{id} - 查询单场比赛详情接口</li>
+ *     <li>GET /api/match-game/base-data - 获取比赛基础数据接口（支持 ETag）</li>
  * </ul>
  *
  * @author Gelatoni
@@ -81,7 +87,6 @@ public class MatchGameController {
         
         MatchGameCreateQuery query = assembler.toDomainQuery(request);
         Long matchId = matchGameAppService.createMatchGame(query);
-        cacheManager.evictAllStats();
         return BaseResponse.success(matchId);
     }
 
@@ -107,7 +112,6 @@ public class MatchGameController {
         
         MatchGameUpdateQuery query = assembler.toDomainQuery(request);
         Boolean result = matchGameAppService.updateMatchGame(query);
-        cacheManager.evictAllStats();
         return BaseResponse.success(result);
     }
 
@@ -124,7 +128,6 @@ public class MatchGameController {
     @DeleteMapping(value = "/delete/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     public BaseResponse<Boolean> delete(@PathVariable Long id) {
         Boolean result = matchGameAppService.deleteMatchGame(id);
-        cacheManager.evictAllStats();
         return BaseResponse.success(result);
     }
 
@@ -135,13 +138,13 @@ public class MatchGameController {
      * 支持分页，按比赛时间排序，支持按赛季筛选，只返回比赛基础信息。
      *
      * @param request 比赛分页查询请求
-     * @return 比赛列表
+     * @return 比赛分页数据（含总数）
      */
     @AuthCheck(permissionCode = PermissionConstants.PERM_MATCH)
     @PostMapping(value = "/page", produces = MediaType.APPLICATION_JSON_VALUE)
-    public BaseResponse<List<MatchGameDTO>> page(@RequestBody MatchGamePageRequest request) {
+    public BaseResponse<PageData<MatchGameDTO>> page(@RequestBody MatchGamePageRequest request) {
         MatchGamePageQuery query = assembler.toDomainQuery(request);
-        List<MatchGameDTO> matchGames = matchGameAppService.getMatchGamePage(query);
+        PageData<MatchGameDTO> matchGames = matchGameAppService.getMatchGamePage(query);
         return BaseResponse.success(matchGames);
     }
 
@@ -221,13 +224,49 @@ public class MatchGameController {
     /**
      * 获取比赛基础数据接口
      *
+     * <p>响应带 ETag 头；请求头 If-None-Match 与当前 ETag 相同时返回 304，不返回数据
+     *
+     * @param ifNoneMatch 浏览器缓存的 ETag（可选）
      * @return 基础数据
      */
     @AuthCheck(permissionCode = PermissionConstants.PERM_MATCH)
     @GetMapping(value = "/base-data", produces = MediaType.APPLICATION_JSON_VALUE)
-    public BaseResponse<MatchGameBaseDataDTO> baseData() {
-        MatchGameBaseDataDTO data = matchGameAppService.getMatchGameBaseData();
-        return BaseResponse.success(data);
+    public ResponseEntity<BaseResponse<MatchGameBaseDataDTO>> baseData(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        MatchGameBaseDataSnapshot snapshot = matchGameAppService.getMatchGameBaseData();
+        // 每次都需要重新校验，数据变化后浏览器立即拿到新数据
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (matchesETag(ifNoneMatch, snapshot.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(cacheControl)
+                .body(BaseResponse.success(snapshot.getData()));
+    }
+
+    /**
+     * 判断 If-None-Match 是否命中当前 ETag
+     *
+     * <p>If-None-Match 可能包含多个 ETag（逗号分隔），或经代理压缩后带 W/ 前缀，按弱比较处理
+     */
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
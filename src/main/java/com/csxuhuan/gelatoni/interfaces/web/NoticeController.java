@@ -3,7 +3,9 @@ package com.csxuhuan.gelatoni.interfaces.web;
 import com.csxuhuan.gelatoni.application.service.NoticeAppService;
 import com.csxuhuan.gelatoni.domain.model.entity.Notice;
 import com.csxuhuan.gelatoni.domain.query.NoticeCreateQuery;
+import com.csxuhuan.gelatoni.domain.query.NoticeFeedQuery;
 import com.csxuhuan.gelatoni.domain.query.NoticePageQuery;
+import com.csxuhuan.gelatoni.domain.result.CursorPageResult;
 import com.csxuhuan.gelatoni.domain.result.PageResult;
 import com.csxuhuan.gelatoni.interfaces.config.AuthCheck;
 import com.csxuhuan.gelatoni.application.assembler.NoticeAssembler;
@@ -13,6 +15,7 @@ import com.csxuhuan.gelatoni.interfaces.web.common.PageData;
 import com.csxuhuan.gelatoni.interfaces.web.common.PermissionConstants;
 import com.csxuhuan.gelatoni.interfaces.web.common.UserHolder;
 import com.csxuhuan.gelatoni.interfaces.web.request.NoticeCreateRequest;
+import com.csxuhuan.gelatoni.interfaces.web.request.NoticeFeedRequest;
 import com.csxuhuan.gelatoni.interfaces.web.request.NoticePageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
@@ -25,6 +28,7 @@ import javax.validation.Valid;
  * <p>提供公告相关的 RESTful API 接口，包括：
  * <ul>
  *     <li>分页查询公告列表</li>
+ *     <li>按游标滚动查询公告流</li>
  *     <li>创建新公告（需要认证）</li>
  *     <li>删除公告（需要认证）</li>
  * </ul>
@@ -74,6 +78,32 @@ public class NoticeController {
         return BaseResponse.success(pageData);
     }
 
+    /**
+     * 按游标查询公告流
+     *
+     * <p>按创建时间倒序、ID 倒序返回公告，翻页使用上一页返回的 nextCursor，
+     * nextCursor 为空表示没有更多数据。默认不统计总数，需要时传 withTotal=true。
+     * 此接口需要 {@link PermissionConstants#PERM_NOTICE_VIEW} 权限。
+     *
+     * @param request 公告流查询请求，包含 cursor（游标）、pageSize（每页大小）和 withTotal（是否统计总数）
+     * @return 分页结果，包含公告列表和下一页游标
+     * @see AuthCheck 权限检查注解
+     */
+    @AuthCheck(permissionCode = PermissionConstants.PERM_NOTICE_VIEW)
+    @PostMapping(value = "/feed",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public BaseResponse<PageData<NoticeDTO>> feed(@Valid @RequestBody NoticeFeedRequest request) {
+
+        NoticeFeedQuery query = assembler.toDomainQuery(request);
+
+        CursorPageResult<Notice> result = noticeAppService.feedQuery(query);
+
+        PageData<NoticeDTO> pageData = assembler.toPageData(result, query.getPageSize());
+
+        return BaseResponse.success(pageData);
+    }
+
     /**
      * 新增公告
      *
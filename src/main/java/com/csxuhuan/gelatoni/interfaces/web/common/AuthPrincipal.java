@@ -0,0 +1,127 @@
+package com.csxuhuan.gelatoni.interfaces.web.common;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 当前请求的认证主体
+ *
+ * <p>包含用户ID、用户名、角色编码和权限集合，不可修改，由 {@link UserHolder} 持有。
+ * 权限以 {@link PermissionSet} 位集保存，判断角色、权限均为常数时间。
+ *
+ * @author csxuhuan
+ * @see UserHolder
+ */
+public final class AuthPrincipal {
+
+    /** 用户ID，匿名角色时为 null */
+    private final Long userId;
+
+    /** 用户名，匿名角色时为 null */
+    private final String username;
+
+    /** 角色编码列表 */
+    private final List<String> roleCodes;
+
+    /** 角色编码集合，用于判断是否拥有角色 */
+    private final Set<String> roleCodeSet;
+
+    /** 权限集合 */
+    private final PermissionSet permissions;
+
+    /** 权限编码列表，首次使用时由权限集合还原 */
+    private volatile List<String> permissionCodes;
+
+    private AuthPrincipal(Long userId, String username, List<String> roleCodes, PermissionSet permissions,
+                          List<String> permissionCodes) {
+        this.userId = userId;
+        this.username = username;
+        this.roleCodes = roleCodes == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(roleCodes);
+        this.roleCodeSet = new HashSet<>(this.roleCodes);
+        this.permissions = permissions;
+        this.permissionCodes = permissionCodes == null ? null : Collections.unmodifiableList(permissionCodes);
+    }
+
+    /**
+     * 由角色编码和权限编码列表创建
+     *
+     * @param userId          用户ID
+     * @param username        用户名
+     * @param roleCodes       角色编码列表
+     * @param permissionCodes 权限编码列表
+     * @return 认证主体
+     */
+    public static AuthPrincipal of(Long userId, String username, List<String> roleCodes,
+                                   List<String> permissionCodes) {
+        List<String> codes = permissionCodes == null ? Collections.emptyList() : permissionCodes;
+        return new AuthPrincipal(userId, username, roleCodes, PermissionSet.of(codes), codes);
+    }
+
+    /**
+     * 由 Token 中嵌入的角色编码和权限位集创建
+     *
+     * @param userId         用户ID
+     * @param username       用户名
+     * @param roleCodes      角色编码列表
+     * @param permissionBits 权限位集（见 {@link PermissionRegistry#encode(java.util.Collection)}）
+     * @return 认证主体
+     */
+    public static AuthPrincipal ofBits(Long userId, String username, List<String> roleCodes, long permissionBits) {
+        return new AuthPrincipal(userId, username, roleCodes, PermissionSet.ofBits(permissionBits), null);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public List<String> getRoleCodes() {
+        return roleCodes;
+    }
+
+    public List<String> getPermissionCodes() {
+        List<String> codes = permissionCodes;
+        if (codes == null) {
+            codes = permissions.toCodes();
+            permissionCodes = codes;
+        }
+        return codes;
+    }
+
+    /**
+     * 检查是否拥有指定的权限编码
+     *
+     * @param permissionCode 权限编码
+     * @return true 如果拥有该权限，false 否则
+     */
+    public boolean hasPermission(String permissionCode) {
+        return permissions.contains(PermissionRegistry.ordinalOf(permissionCode));
+    }
+
+    /**
+     * 检查是否拥有指定序号的权限
+     *
+     * @param permissionOrdinal 权限在 {@link PermissionRegistry} 中的序号
+     * @return true 如果拥有该权限，false 否则
+     */
+    public boolean hasPermission(int permissionOrdinal) {
+        return permissions.contains(permissionOrdinal);
+    }
+
+    /**
+     * 检查是否拥有指定的角色编码
+     *
+     * @param roleCode 角色编码
+     * @return true 如果拥有该角色，false 否则
+     */
+    public boolean hasRole(String roleCode) {
+        return roleCodeSet.contains(roleCode);
+    }
+}
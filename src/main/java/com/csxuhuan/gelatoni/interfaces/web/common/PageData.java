@@ -28,6 +28,11 @@ public class PageData<T> {
      */
     private Integer pageSize;
 
+    /**
+     * 下一页游标，仅游标分页返回；为空表示没有下一页
+     */
+    private String nextCursor;
+
     /**
      * 创建分页数据响应
      *
@@ -74,4 +79,12 @@ public class PageData<T> {
     public void setPageSize(Integer pageSize) {
         this.pageSize = pageSize;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
@@ -0,0 +1,134 @@
+package com.csxuhuan.gelatoni.interfaces.web.common;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 权限编码注册表
+ *
+ * <p>为每个权限编码分配一个进程内唯一的序号，权限集合据此表示为位集（见 {@link PermissionSet}），
+ * 判断是否拥有某个权限只需一次哈希查找和一次位运算。
+ *
+ * <p>序号分配：
+ * <ul>
+ *     <li>{@link #FIXED_CODES} 中的权限编码（{@link PermissionConstants}）按其顺序占用最前面的序号，
+ *     所有实例一致，用于 Token 中的权限位集（见 {@link #encode(Collection)}）</li>
+ *     <li>启动时登记数据库中的全部权限编码，其后出现的新编码在首次使用时追加</li>
+ * </ul>
+ *
+ * <p>注意：固定序号之外的序号只在本进程内有效，不能写入 Token 或缓存。
+ * 已签发的 Token 依赖固定序号的顺序，新增权限只能追加到 {@link #FIXED_CODES} 末尾，不能调整顺序或删除。
+ *
+ * @author csxuhuan
+ * @see PermissionSet
+ */
+public class PermissionRegistry {
+
+    /** 固定序号的权限编码，下标即序号（最多 64 个，与 Token 中的权限位集一致） */
+    private static final String[] FIXED_CODES = {
+            PermissionConstants.PERM_NOTICE_VIEW,
+            PermissionConstants.PERM_NOTICE_CREATE,
+            PermissionConstants.PERM_TODO,
+            PermissionConstants.PERM_ACTIVITY,
+            PermissionConstants.PERM_USER_PERMISSION_MGMT,
+            PermissionConstants.PERM_MATCH
+    };
+
+    /** 权限编码 → 序号 */
+    private static final ConcurrentMap<String, Integer> ORDINALS = new ConcurrentHashMap<>();
+
+    /** 序号 → 权限编码 */
+    private static volatile String[] codes = new String[0];
+
+    static {
+        register(Arrays.asList(FIXED_CODES));
+    }
+
+    /**
+     * 私有构造函数，防止实例化
+     */
+    private PermissionRegistry() {
+        throw new UnsupportedOperationException("工具类不能被实例化");
+    }
+
+    /**
+     * 登记一批权限编码，已登记的编码保持原序号
+     *
+     * @param permissionCodes 权限编码集合
+     */
+    public static void register(Collection<String> permissionCodes) {
+        for (String permissionCode : permissionCodes) {
+            intern(permissionCode);
+        }
+    }
+
+    /**
+     * 获取权限编码的序号，未登记时分配新序号
+     *
+     * @param permissionCode 权限编码
+     * @return 序号
+     */
+    public static int intern(String permissionCode) {
+        Integer ordinal = ORDINALS.get(permissionCode);
+        return ordinal != null ? ordinal : assign(permissionCode);
+    }
+
+    /**
+     * 获取权限编码的序号，不分配新序号
+     *
+     * @param permissionCode 权限编码
+     * @return 序号，未登记时返回 -1
+     */
+    public static int ordinalOf(String permissionCode) {
+        Integer ordinal = permissionCode == null ? null : ORDINALS.get(permissionCode);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * 获取序号对应的权限编码
+     *
+     * @param ordinal 序号
+     * @return 权限编码，序号不存在时返回 null
+     */
+    public static String codeOf(int ordinal) {
+        String[] snapshot = codes;
+        return ordinal >= 0 && ordinal < snapshot.length ? snapshot[ordinal] : null;
+    }
+
+    /**
+     * 把权限编码集合编码为 Token 中的权限位集
+     *
+     * @param permissionCodes 权限编码集合
+     * @return 位集，只包含固定序号的权限编码，其他编码被忽略
+     */
+    public static long encode(Collection<String> permissionCodes) {
+        long bits = 0L;
+        if (permissionCodes == null) {
+            return bits;
+        }
+        for (String permissionCode : permissionCodes) {
+            int ordinal = ordinalOf(permissionCode);
+            if (ordinal >= 0 && ordinal < FIXED_CODES.length) {
+                bits |= 1L << ordinal;
+            }
+        }
+        return bits;
+    }
+
+    private static synchronized int assign(String permissionCode) {
+        Integer ordinal = ORDINALS.get(permissionCode);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        String[] snapshot = codes;
+        String[] extended = new String[snapshot.length + 1];
+        System.arraycopy(snapshot, 0, extended, 0, snapshot.length);
+        extended[snapshot.length] = permissionCode;
+        // 先发布序号 → 编码，再发布编码 → 序号，读到序号时一定能查到编码
+        codes = extended;
+        ORDINALS.put(permissionCode, snapshot.length);
+        return snapshot.length;
+    }
+}
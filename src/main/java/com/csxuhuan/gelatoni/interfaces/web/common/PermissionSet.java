@@ -0,0 +1,97 @@
+package com.csxuhuan.gelatoni.interfaces.web.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 权限集合（位集）
+ *
+ * <p>以 {@link PermissionRegistry} 分配的序号为下标，每个权限占一位，不可修改，可在多个请求间共享。
+ * 判断是否包含某个权限为常数时间。
+ *
+ * @author csxuhuan
+ * @see PermissionRegistry
+ */
+public final class PermissionSet {
+
+    /** 空集合 */
+    public static final PermissionSet EMPTY = new PermissionSet(new long[0]);
+
+    /** 位集，第 i 位对应序号 i */
+    private final long[] words;
+
+    private PermissionSet(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * 由权限编码集合创建，未登记的编码会登记到 {@link PermissionRegistry}
+     *
+     * @param permissionCodes 权限编码集合
+     * @return 权限集合
+     */
+    public static PermissionSet of(Collection<String> permissionCodes) {
+        if (permissionCodes == null || permissionCodes.isEmpty()) {
+            return EMPTY;
+        }
+        long[] words = new long[0];
+        for (String permissionCode : permissionCodes) {
+            if (permissionCode == null) {
+                continue;
+            }
+            int ordinal = PermissionRegistry.intern(permissionCode);
+            int index = ordinal >>> 6;
+            if (index >= words.length) {
+                long[] extended = new long[index + 1];
+                System.arraycopy(words, 0, extended, 0, words.length);
+                words = extended;
+            }
+            words[index] |= 1L << ordinal;
+        }
+        return new PermissionSet(words);
+    }
+
+    /**
+     * 由 Token 中的权限位集创建（见 {@link PermissionRegistry#encode(Collection)}）
+     *
+     * @param bits 权限位集
+     * @return 权限集合
+     */
+    public static PermissionSet ofBits(long bits) {
+        return bits == 0 ? EMPTY : new PermissionSet(new long[]{bits});
+    }
+
+    /**
+     * 检查是否包含指定序号的权限
+     *
+     * @param ordinal 权限序号
+     * @return true 如果包含该权限，false 否则
+     */
+    public boolean contains(int ordinal) {
+        if (ordinal < 0) {
+            return false;
+        }
+        int index = ordinal >>> 6;
+        return index < words.length && (words[index] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * 还原为权限编码列表
+     *
+     * @return 权限编码列表，按序号升序，不可修改
+     */
+    public List<String> toCodes() {
+        List<String> permissionCodes = new ArrayList<>();
+        for (int index = 0; index < words.length; index++) {
+            long word = words[index];
+            while (word != 0) {
+                int ordinal = (index << 6) + Long.numberOfTrailingZeros(word);
+                permissionCodes.add(PermissionRegistry.codeOf(ordinal));
+                word &= word - 1;
+            }
+        }
+        return Collections.unmodifiableList(permissionCodes);
+    }
+}
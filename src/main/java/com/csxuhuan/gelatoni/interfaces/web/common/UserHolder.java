@@ -15,7 +15,7 @@ import java.util.List;
  * <p>使用示例：
  * <pre>
  * // 在拦截器中设置用户信息
- * UserHolder.set(userId, username, roleCodes, permissionCodes);
+ * UserHolder.set(principal);
  *
  * // 在业务代码中获取用户信息
  * Long userId = UserHolder.getUserId();
@@ -27,6 +27,9 @@ import java.util.List;
  * UserHolder.clear();
  * </pre>
  *
+ * <p>用户信息以一个不可修改的 {@link AuthPrincipal} 保存在一个 ThreadLocal 中，
+ * 判断权限、角色为常数时间。
+ *
  * <p>注意：此类使用 ThreadLocal 存储数据，每个请求线程独立存储，
  * 请求结束后必须调用 clear() 方法清理，避免内存泄漏。
  *
@@ -35,38 +38,26 @@ import java.util.List;
 public class UserHolder {
 
     /**
-     * 用户ID ThreadLocal
+     * 认证主体 ThreadLocal
      */
-    private static final ThreadLocal<Long> userIdHolder = new ThreadLocal<>();
+    private static final ThreadLocal<AuthPrincipal> principalHolder = new ThreadLocal<>();
 
     /**
-     * 用户名 ThreadLocal
-     */
-    private static final ThreadLocal<String> usernameHolder = new ThreadLocal<>();
-
-    /**
-     * 角色编码列表 ThreadLocal
-     */
-    private static final ThreadLocal<List<String>> roleCodesHolder = new ThreadLocal<>();
-
-    /**
-     * 权限编码列表 ThreadLocal
+     * 设置当前线程的认证主体
+     *
+     * @param principal 认证主体
      */
-    private static final ThreadLocal<List<String>> permissionCodesHolder = new ThreadLocal<>();
+    public static void set(AuthPrincipal principal) {
+        principalHolder.set(principal);
+    }
 
     /**
-     * 设置当前线程的用户信息
+     * 获取当前线程的认证主体
      *
-     * @param userId           用户ID
-     * @param username         用户名
-     * @param roleCodes        角色编码列表
-     * @param permissionCodes  权限编码列表
+     * @return 认证主体，如果未设置则返回 null
      */
-    public static void set(Long userId, String username, List<String> roleCodes, List<String> permissionCodes) {
-        userIdHolder.set(userId);
-        usernameHolder.set(username);
-        roleCodesHolder.set(roleCodes);
-        permissionCodesHolder.set(permissionCodes);
+    public static AuthPrincipal get() {
+        return principalHolder.get();
     }
 
     /**
@@ -75,7 +66,8 @@ public class UserHolder {
      * @return 用户ID，如果未设置则返回 null
      */
     public static Long getUserId() {
-        return userIdHolder.get();
+        AuthPrincipal principal = principalHolder.get();
+        return principal == null ? null : principal.getUserId();
     }
 
     /**
@@ -84,7 +76,8 @@ public class UserHolder {
      * @return 用户名，如果未设置则返回 null
      */
     public static String getUsername() {
-        return usernameHolder.get();
+        AuthPrincipal principal = principalHolder.get();
+        return principal == null ? null : principal.getUsername();
     }
 
     /**
@@ -93,7 +86,8 @@ public class UserHolder {
      * @return 角色编码列表，如果未设置则返回 null
      */
     public static List<String> getRoleCodes() {
-        return roleCodesHolder.get();
+        AuthPrincipal principal = principalHolder.get();
+        return principal == null ? null : principal.getRoleCodes();
     }
 
     /**
@@ -102,7 +96,8 @@ public class UserHolder {
      * @return 权限编码列表，如果未设置则返回 null
      */
     public static List<String> getPermissionCodes() {
-        return permissionCodesHolder.get();
+        AuthPrincipal principal = principalHolder.get();
+        return principal == null ? null : principal.getPermissionCodes();
     }
 
     /**
@@ -112,8 +107,8 @@ public class UserHolder {
      * @return true 如果包含该权限，false 否则
      */
     public static boolean hasPermission(String permissionCode) {
-        List<String> permissionCodes = permissionCodesHolder.get();
-        return permissionCodes != null && permissionCodes.contains(permissionCode);
+        AuthPrincipal principal = principalHolder.get();
+        return principal != null && principal.hasPermission(permissionCode);
     }
 
     /**
@@ -123,8 +118,8 @@ public class UserHolder {
      * @return true 如果包含该角色，false 否则
      */
     public static boolean hasRole(String roleCode) {
-        List<String> roleCodes = roleCodesHolder.get();
-        return roleCodes != null && roleCodes.contains(roleCode);
+        AuthPrincipal principal = principalHolder.get();
+        return principal != null && principal.hasRole(roleCode);
     }
 
     /**
@@ -134,9 +129,6 @@ public class UserHolder {
      * 通常在拦截器的 afterCompletion 方法中调用。
      */
     public static void clear() {
-        userIdHolder.remove();
-        usernameHolder.remove();
-        roleCodesHolder.remove();
-        permissionCodesHolder.remove();
+        principalHolder.remove();
     }
 }
@@ -30,6 +30,9 @@ public class MatchGameStatsRequest {
     @NotNull(message = "统计维度不能为空")
     private StatsDimension dimension;
 
+    /** 每个榜单返回的条数（可选）。为空或不大于 0 表示返回全部排名，超过 100 按 100 处理 */
+    private Integer topN;
+
     public String getSeason() {
         return season;
     }
@@ -62,6 +65,14 @@ public class MatchGameStatsRequest {
         this.dimension = dimension;
     }
 
+    public Integer getTopN() {
+        return topN;
+    }
+
+    public void setTopN(Integer topN) {
+        this.topN = topN;
+    }
+
     /**
      * 统计维度
      */
@@ -0,0 +1,48 @@
+package com.csxuhuan.gelatoni.interfaces.web.request;
+
+/**
+ * 公告流查询请求
+ *
+ * 对外协议对象（HTTP / JSON）
+ */
+public class NoticeFeedRequest {
+
+    /**
+     * 游标，取上一页响应中的 nextCursor；为空时从最新的公告开始
+     */
+    private String cursor;
+
+    /**
+     * 每页大小，1-100，为空时为 10
+     */
+    private Integer pageSize = 10;
+
+    /**
+     * 是否返回总数，默认不统计
+     */
+    private Boolean withTotal = false;
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public Boolean getWithTotal() {
+        return withTotal;
+    }
+
+    public void setWithTotal(Boolean withTotal) {
+        this.withTotal = withTotal;
+    }
+}